@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+
+/**
+ * The 0.1.0 implementation of "enclosed_bean_fields" resolution, retained as the baseline later changes are measured
+ * against. Reads the type's members and substitutes placeholders with regular expressions on every resolution
+ *
+ * <p>
+ * Identical to the 0.1.0 resolver, except that the enclosing type is provided directly rather than found from a
+ * template context
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+public final class BaselineResolver {
+
+    private static final String NAME_PLACEHOLDER = "\\$\\{name\\}";
+
+    private static final String GETTER_PLACEHOLDER = "\\$\\{getter\\}";
+
+    private static final String NEWLINE_PLACEHOLDER = "\\$\\{newline\\}";
+
+    private static final Set<String> BOOLEAN_TYPE_SIGNATURES = Stream.of("Z", "QBoolean;").collect(Collectors.toSet());
+
+    /**
+     * Prevent instantiation of utility class
+     */
+    private BaselineResolver() {
+    }
+
+    /**
+     * @param type
+     *            The type the template is being inserted into
+     * @param variableParameters
+     *            The template and separator
+     * @return The rendered bean fields, or null if the parameters are not a template and separator
+     * @throws JavaModelException
+     *             If there is an error reading Java model information from the type
+     */
+    public static String[] resolveAll(IType type, List<String> variableParameters) throws JavaModelException {
+        String[] result = null;
+
+        if (variableParameters.size() == 2) {
+            String template = variableParameters.get(0);
+            String separator = variableParameters.get(1).replaceAll(NEWLINE_PLACEHOLDER, System.lineSeparator());
+
+            List<String> lines = new ArrayList<>();
+
+            for (Entry<String, String> entry : getBeanPairs(type).entrySet()) {
+                lines.add(template
+                        .replaceAll(NAME_PLACEHOLDER, entry.getKey())
+                        .replaceAll(GETTER_PLACEHOLDER, entry.getValue()));
+            }
+
+            String value = lines.stream().collect(Collectors.joining(separator));
+
+            result = new String[] { value };
+        }
+
+        return result;
+    }
+
+    /**
+     * @param type
+     *            The type the template is being inserted into
+     * @return A mapping of any bean fields to the name of the method that matched
+     * @throws JavaModelException
+     *             If there is an error reading Java model information from the type
+     */
+    public static Map<String, String> getBeanPairs(IType type) throws JavaModelException {
+        Objects.requireNonNull(type);
+
+        Map<String, String> result = new LinkedHashMap<String, String>();
+        Set<String> methodLookup = getCandidateMethods(type);
+
+        for (IField field : type.getFields()) {
+            String capitalizedName = capitalizeFirstLetter(field.getElementName());
+            String getter = "get" + capitalizedName;
+            String isGetter = "is" + capitalizedName;
+
+            if (methodLookup.contains(getter)) {
+                result.put(field.getElementName(), getter + "()");
+            } else if (isBooleanField(field) && methodLookup.contains(isGetter)) {
+                result.put(field.getElementName(), isGetter + "()");
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * @param type
+     *            The type the template is being inserted into
+     * @return Set of names of methods which start with either "get" or "is", and have no parameters
+     * @throws JavaModelException
+     *             If there is an error reading Java model information from the type
+     */
+    public static Set<String> getCandidateMethods(IType type) throws JavaModelException {
+        Objects.requireNonNull(type);
+
+        IMethod[] methods = type.getMethods();
+        Set<String> methodLookup = new HashSet<>();
+
+        for (IMethod method : methods) {
+            if (method.getParameterNames().length == 0
+                    && (method.getElementName().startsWith("get") || method.getElementName().startsWith("is"))) {
+                methodLookup.add(method.getElementName());
+            }
+        }
+
+        return methodLookup;
+    }
+
+    /**
+     * @param input
+     *            The string to capitalize
+     * @return The string, with its first letter capitalized
+     */
+    public static String capitalizeFirstLetter(String input) {
+        Objects.requireNonNull(input);
+
+        String result = input;
+
+        if (!input.isEmpty()) {
+            String first = new String(input.substring(0, 1));
+            result = input.replaceFirst(first, first.toUpperCase());
+        }
+
+        return result;
+    }
+
+    static boolean isBooleanField(IField field) throws JavaModelException {
+        Objects.requireNonNull(field);
+
+        return BOOLEAN_TYPE_SIGNATURES.contains(field.getTypeSignature());
+    }
+
+}
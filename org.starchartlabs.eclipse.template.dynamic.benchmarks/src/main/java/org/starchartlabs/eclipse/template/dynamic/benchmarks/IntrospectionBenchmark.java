@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.starchartlabs.eclipse.template.dynamic.metrics.ResolverStatistics;
+import org.starchartlabs.eclipse.template.dynamic.model.AccessorNaming;
+import org.starchartlabs.eclipse.template.dynamic.model.BeanIntrospector;
+import org.starchartlabs.eclipse.template.dynamic.model.BeanModel;
+import org.starchartlabs.eclipse.template.dynamic.model.BinarySnapshotCache;
+import org.starchartlabs.eclipse.template.dynamic.model.GetterIndex;
+import org.starchartlabs.eclipse.template.dynamic.model.ParallelScanner;
+import org.starchartlabs.eclipse.template.dynamic.model.TypeHierarchyCache;
+import org.starchartlabs.eclipse.template.dynamic.preferences.PreferenceConstants;
+
+/**
+ * Measures reading the bean fields of a type from the Java model. Methods prefixed "baseline" run the 0.1.0 getter
+ * matching, for comparison with the single-pass member snapshot and getter index which replaced it
+ *
+ * <p>
+ * Each operation reads the type afresh, as the first template insertion into a type does - later insertions are
+ * served from the plug-in's bean model cache
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntrospectionBenchmark {
+
+    @Param({ "10", "100", "1000", "10000" })
+    public int fieldCount;
+
+    @Param({ "0.1", "0.5", "1.0" })
+    public double getterRatio;
+
+    private IType type;
+
+    private BeanIntrospector introspector;
+
+    private List<String> fieldNames;
+
+    private List<String> methodNames;
+
+    private Set<String> booleanFieldNames;
+
+    @Setup(Level.Trial)
+    public void setup() throws JavaModelException {
+        type = JavaModelStubs.createType(fieldCount, getterRatio);
+
+        ResolverStatistics statistics = new ResolverStatistics();
+
+        // Matches the plug-in's default configuration, so types above the default threshold are read in parallel
+        ParallelScanner scanner = new ParallelScanner(ForkJoinPool.commonPool(),
+                () -> PreferenceConstants.DEFAULT_PARALLEL_SCAN_THRESHOLD);
+
+        introspector = new BeanIntrospector(new TypeHierarchyCache(), new BinarySnapshotCache(statistics), scanner,
+                () -> AccessorNaming.DEFAULT, statistics);
+
+        fieldNames = new ArrayList<>();
+        booleanFieldNames = new HashSet<>();
+
+        for (IField field : type.getFields()) {
+            fieldNames.add(field.getElementName());
+
+            if (BaselineResolver.isBooleanField(field)) {
+                booleanFieldNames.add(field.getElementName());
+            }
+        }
+
+        methodNames = Arrays.stream(type.getMethods()).map(IMethod::getElementName).collect(Collectors.toList());
+
+        // Counts from setup are not attributed to measured operations
+        JavaModelStubs.reset();
+    }
+
+    @Benchmark
+    public Set<String> baselineGetCandidateMethods() throws JavaModelException {
+        return BaselineResolver.getCandidateMethods(type);
+    }
+
+    @Benchmark
+    public Map<String, String> baselineGetBeanPairs() throws JavaModelException {
+        return BaselineResolver.getBeanPairs(type);
+    }
+
+    @Benchmark
+    public void baselineCapitalizeFirstLetter(Blackhole blackhole) {
+        for (String fieldName : fieldNames) {
+            blackhole.consume(BaselineResolver.capitalizeFirstLetter(fieldName));
+        }
+    }
+
+    /**
+     * Replaces {@link #baselineCapitalizeFirstLetter(Blackhole)} - getters are found by indexing method names once,
+     * rather than building candidate names for each field
+     */
+    @Benchmark
+    public void getterIndex(Blackhole blackhole) {
+        GetterIndex index = AccessorNaming.DEFAULT.createIndex(methodNames);
+
+        for (String fieldName : fieldNames) {
+            blackhole.consume(index.getGetter(fieldName, booleanFieldNames.contains(fieldName)));
+        }
+    }
+
+    /**
+     * Replaces {@link #baselineGetBeanPairs()}
+     */
+    @Benchmark
+    public BeanModel introspect() throws JavaModelException {
+        return introspector.introspect(type, false);
+    }
+
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.benchmarks;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.IAnnotation;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IImportDeclaration;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IType;
+
+/**
+ * In-memory stand-ins for the Java model elements of a source type, which count the calls made to them
+ *
+ * <p>
+ * Calls are split into those which read an element's information, which the Java model answers by looking up (and, on a
+ * miss, re-reading) the element's cached structure, and those answered from the element's handle alone, such as its
+ * name. Unsupported calls fail, so that benchmarks cannot silently take a path the stubs do not model
+ *
+ * <p>
+ * Calls are dispatched through dynamic proxies, which take several seconds of warm-up to compile - benchmarks using the
+ * stubs warm up for longer than is usual as a result
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+public final class JavaModelStubs {
+
+    // Calls which read element information, as opposed to those answered by the element handle
+    private static final Set<String> ELEMENT_INFO_METHODS = Stream
+            .of("getChildren", "getFields", "getMethods", "getTypes", "getTypeSignature", "getFlags", "getAnnotations",
+                    "getParameterNames", "getReturnType", "getImports", "isRecord", "getRecordComponents",
+                    "isInterface", "isAnnotation", "isEnum", "isClass")
+            .collect(Collectors.toSet());
+
+    // Field types cycled through, covering each type category and both boolean forms
+    private static final String[] TYPE_SIGNATURES = { "QString;", "I", "Z", "QList<QString;>;", "QInteger;", "[I",
+            "QBoolean;", "QMap<QString;QLong;>;" };
+
+    private static final LongAdder ELEMENT_INFO_READS = new LongAdder();
+
+    private static final LongAdder CALLS = new LongAdder();
+
+    /**
+     * Prevent instantiation of utility class
+     */
+    private JavaModelStubs() {
+    }
+
+    /**
+     * Creates a source class with private fields, a setter for every field, and getters for a proportion of them.
+     * Fields without a getter are spread evenly through the declaration order
+     *
+     * @param fieldCount
+     *            The number of fields to declare
+     * @param getterRatio
+     *            The proportion of fields, between zero and one, which have a getter
+     * @return A stub type, which counts calls made to it and its members
+     */
+    public static IType createType(int fieldCount, double getterRatio) {
+        List<IField> fields = new ArrayList<>(fieldCount);
+        List<IMethod> methods = new ArrayList<>();
+        int getterCount = 0;
+
+        for (int i = 0; i < fieldCount; i++) {
+            String name = "field" + i;
+            String typeSignature = TYPE_SIGNATURES[i % TYPE_SIGNATURES.length];
+            String capitalized = "Field" + i;
+
+            fields.add(createField(name, typeSignature));
+
+            // Bresenham-style spacing, so that matched fields are spread through the type rather than leading it
+            if ((int) Math.floor((i + 1) * getterRatio) > getterCount) {
+                boolean primitiveBoolean = "Z".equals(typeSignature);
+
+                methods.add(createMethod((primitiveBoolean ? "is" : "get") + capitalized, typeSignature));
+                getterCount++;
+            }
+
+            methods.add(createMethod("set" + capitalized, "V", name));
+        }
+
+        ICompilationUnit unit = create(ICompilationUnit.class, "Bench.java", method -> {
+            Object result = null;
+
+            if ("getImports".equals(method)) {
+                result = new IImportDeclaration[0];
+            } else if ("getElementType".equals(method)) {
+                result = IJavaElement.COMPILATION_UNIT;
+            }
+
+            return result;
+        });
+
+        IField[] fieldArray = fields.toArray(new IField[fields.size()]);
+        IMethod[] methodArray = methods.toArray(new IMethod[methods.size()]);
+        IJavaElement[] children = Stream.concat(fields.stream(), methods.stream()).toArray(IJavaElement[]::new);
+
+        Map<String, Object> values = Map.of("getChildren", children, "getFields", fieldArray, "getMethods",
+                methodArray, "getTypes", new IType[0], "getAnnotations", new IAnnotation[0], "getCompilationUnit", unit,
+                "getHandleIdentifier", "=bench/src<bench{Bench.java[Bench", "getFullyQualifiedName", "bench.Bench",
+                "getElementType", IJavaElement.TYPE, "getFlags", Flags.AccPublic);
+        Set<String> falseMethods = new HashSet<>(
+                Arrays.asList("isBinary", "isRecord", "isInterface", "isAnnotation", "isEnum"));
+
+        return create(IType.class, "Bench", method -> (falseMethods.contains(method) ? Boolean.FALSE
+                : values.get(method)));
+    }
+
+    /**
+     * @return The number of calls which read element information since the counts were last reset
+     */
+    public static long getElementInfoReads() {
+        return ELEMENT_INFO_READS.sum();
+    }
+
+    /**
+     * @return The number of calls of any kind since the counts were last reset
+     */
+    public static long getCalls() {
+        return CALLS.sum();
+    }
+
+    /**
+     * Resets the call counts to zero
+     */
+    public static void reset() {
+        ELEMENT_INFO_READS.reset();
+        CALLS.reset();
+    }
+
+    private static IField createField(String name, String typeSignature) {
+        Map<String, Object> values = Map.of("getTypeSignature", typeSignature, "getFlags", Flags.AccPrivate,
+                "getAnnotations", new IAnnotation[0], "getElementType", IJavaElement.FIELD);
+
+        return create(IField.class, name, values::get);
+    }
+
+    private static IMethod createMethod(String name, String returnType, String... parameterNames) {
+        Map<String, Object> values = Map.of("getParameterNames", parameterNames, "getNumberOfParameters",
+                parameterNames.length, "getReturnType", returnType, "getFlags", Flags.AccPublic, "getElementType",
+                IJavaElement.METHOD);
+
+        return create(IMethod.class, name, values::get);
+    }
+
+    /**
+     * @param type
+     *            The Java model interface to stub
+     * @param name
+     *            The element name of the stub
+     * @param values
+     *            Provides the result of each supported call by method name, or null if the call is not supported
+     * @return A stub which counts calls, and answers them from the provided values
+     */
+    private static <T> T create(Class<T> type, String name, Function<String, Object> values) {
+        Objects.requireNonNull(type);
+        Objects.requireNonNull(name);
+        Objects.requireNonNull(values);
+
+        InvocationHandler handler = (proxy, method, arguments) -> {
+            String methodName = method.getName();
+            Object result = null;
+
+            if (method.getDeclaringClass() == Object.class) {
+                if ("equals".equals(methodName)) {
+                    result = (proxy == arguments[0]);
+                } else if ("hashCode".equals(methodName)) {
+                    result = System.identityHashCode(proxy);
+                } else {
+                    result = name;
+                }
+            } else {
+                CALLS.increment();
+
+                if (ELEMENT_INFO_METHODS.contains(methodName)) {
+                    ELEMENT_INFO_READS.increment();
+                }
+
+                result = ("getElementName".equals(methodName) ? name : values.apply(methodName));
+
+                if (result == null) {
+                    throw new UnsupportedOperationException(type.getSimpleName() + "." + methodName);
+                }
+            }
+
+            return result;
+        };
+
+        return type.cast(Proxy.newProxyInstance(JavaModelStubs.class.getClassLoader(), new Class<?>[] { type },
+                handler));
+    }
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.benchmarks;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+/**
+ * Reports the number of calls made to the stubbed Java model per benchmark operation, alongside throughput. Enabled
+ * with "-prof org.starchartlabs.eclipse.template.dynamic.benchmarks.ModelCallProfiler"
+ *
+ * <p>
+ * "modelCalls" counts calls which read element information, the cost Java model reads are measured by elsewhere in the
+ * plug-in. "elementCalls" counts every call, including those answered from element handles
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+public class ModelCallProfiler implements InternalProfiler {
+
+    @Override
+    public String getDescription() {
+        return "Java model calls per operation, made to stubbed elements";
+    }
+
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+        JavaModelStubs.reset();
+    }
+
+    @Override
+    public Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams,
+            IterationResult result) {
+        // Calls are counted for every operation performed during the iteration, not only those measured
+        double operations = Math.max(1, result.getMetadata().getAllOps());
+
+        return Arrays.asList(
+                new ScalarResult("modelCalls", JavaModelStubs.getElementInfoReads() / operations, "calls/op",
+                        AggregationPolicy.AVG),
+                new ScalarResult("elementCalls", JavaModelStubs.getCalls() / operations, "calls/op",
+                        AggregationPolicy.AVG));
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.resolver;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.starchartlabs.eclipse.template.dynamic.benchmarks.BaselineResolver;
+import org.starchartlabs.eclipse.template.dynamic.benchmarks.JavaModelStubs;
+
+/**
+ * Measures resolution of the enclosed_bean_fields variable by the 0.1.0 resolver, for comparison with
+ * {@link ResolveBenchmark#resolveAll()}. Limited to the templates 0.1.0 supports
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BaselineResolveBenchmark {
+
+    @Param({ "10", "100", "1000", "10000" })
+    public int fieldCount;
+
+    @Param({ "0.1", "0.5", "1.0" })
+    public double getterRatio;
+
+    @Param({ "NAME", "PAIR", "STATEMENT" })
+    public TemplateComplexity template;
+
+    private IType type;
+
+    private List<String> variableParameters;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        if (!template.isBaseline()) {
+            throw new IllegalStateException("Template " + template + " is not supported by the baseline resolver");
+        }
+
+        type = JavaModelStubs.createType(fieldCount, getterRatio);
+        variableParameters = template.getVariableParameters();
+
+        JavaModelStubs.reset();
+    }
+
+    @Benchmark
+    public String[] resolveAll() throws JavaModelException {
+        return BaselineResolver.resolveAll(type, variableParameters);
+    }
+
+}
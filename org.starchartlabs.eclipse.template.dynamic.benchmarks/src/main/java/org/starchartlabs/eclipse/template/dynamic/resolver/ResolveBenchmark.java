@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.resolver;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.starchartlabs.eclipse.template.dynamic.benchmarks.JavaModelStubs;
+import org.starchartlabs.eclipse.template.dynamic.metrics.ResolverStatistics;
+import org.starchartlabs.eclipse.template.dynamic.model.AccessorNaming;
+import org.starchartlabs.eclipse.template.dynamic.model.BeanIntrospector;
+import org.starchartlabs.eclipse.template.dynamic.model.BeanModel;
+import org.starchartlabs.eclipse.template.dynamic.model.BinarySnapshotCache;
+import org.starchartlabs.eclipse.template.dynamic.model.ParallelScanner;
+import org.starchartlabs.eclipse.template.dynamic.model.TypeHierarchyCache;
+import org.starchartlabs.eclipse.template.dynamic.model.TypeSignatureCache;
+import org.starchartlabs.eclipse.template.dynamic.preferences.PreferenceConstants;
+
+/**
+ * Measures resolution of the enclosed_bean_fields variable, following the same steps as
+ * {@link EnclosedBeanFieldsResolver#resolveType(IType, List)} without the plug-in's bean model cache
+ *
+ * <p>
+ * {@link #resolveAll()} reads the type afresh for each operation, as the first insertion into a type does, and is
+ * compared against {@link BaselineResolveBenchmark} for templates 0.1.0 supports. {@link #render()} re-uses a model
+ * read once, as later insertions served from the bean model cache do
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResolveBenchmark {
+
+    @Param({ "10", "100", "1000", "10000" })
+    public int fieldCount;
+
+    @Param({ "0.1", "0.5", "1.0" })
+    public double getterRatio;
+
+    @Param
+    public TemplateComplexity template;
+
+    private final CompiledVariableCache compiledVariables = new CompiledVariableCache(16);
+
+    private final TypeSignatureCache typeSignatures = new TypeSignatureCache();
+
+    private IType type;
+
+    private BeanIntrospector introspector;
+
+    private List<String> variableParameters;
+
+    private BeanModel model;
+
+    @Setup(Level.Trial)
+    public void setup() throws JavaModelException {
+        type = JavaModelStubs.createType(fieldCount, getterRatio);
+        variableParameters = template.getVariableParameters();
+
+        ResolverStatistics statistics = new ResolverStatistics();
+
+        ParallelScanner scanner = new ParallelScanner(ForkJoinPool.commonPool(),
+                () -> PreferenceConstants.DEFAULT_PARALLEL_SCAN_THRESHOLD);
+
+        introspector = new BeanIntrospector(new TypeHierarchyCache(), new BinarySnapshotCache(statistics), scanner,
+                () -> AccessorNaming.DEFAULT, statistics);
+        model = introspector.introspect(type, false);
+
+        // Counts from setup are not attributed to measured operations
+        JavaModelStubs.reset();
+    }
+
+    @Benchmark
+    public String resolveAll() throws JavaModelException {
+        CompiledVariable variable = compiledVariables.get(variableParameters);
+        BeanModel read = introspector.introspect(type, variable.isInherited());
+        int[] fields = variable.getOrder().sort(read, variable.getFilter().select(read));
+
+        return variable.render(read, fields, typeSignatures);
+    }
+
+    @Benchmark
+    public String render() throws JavaModelException {
+        CompiledVariable variable = compiledVariables.get(variableParameters);
+        int[] fields = variable.getOrder().sort(model, variable.getFilter().select(model));
+
+        return variable.render(model, fields, typeSignatures);
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.resolver;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Variable parameters of increasing complexity, as provided to the enclosed_bean_fields template variable
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+public enum TemplateComplexity {
+
+    /**
+     * A single placeholder, supported by 0.1.0
+     */
+    NAME(true, "${name}", ", "),
+
+    /**
+     * Field and getter placeholders, supported by 0.1.0
+     */
+    PAIR(true, "\"${name}=\" + ${getter}", " + \",\" ${newline}+ "),
+
+    /**
+     * Repeated placeholders within a statement per field, supported by 0.1.0
+     */
+    STATEMENT(true, "copy.${name} = source.${getter}; // Copies ${name}", "${newline}"),
+
+    /**
+     * Type placeholders, which 0.1.0 does not support
+     */
+    TYPED(false, "${simpleType} ${name} = source.${getter}; // ${type} as ${erasure}", "${newline}"),
+
+    /**
+     * Per-category templates with filtering and ordering options, which 0.1.0 does not support
+     */
+    DISPATCH(false, "java.util.Objects.equals(${name}, other.${name})", " && ",
+            "primitive=${name} == other.${name}",
+            "array=java.util.Arrays.equals(${name}, other.${name})",
+            "modifiers=!static",
+            "order=alphabetical");
+
+    private final boolean baseline;
+
+    private final List<String> variableParameters;
+
+    private TemplateComplexity(boolean baseline, String... variableParameters) {
+        this.baseline = baseline;
+        this.variableParameters = Collections.unmodifiableList(Arrays.asList(variableParameters));
+    }
+
+    /**
+     * @return True if the 0.1.0 resolver renders the parameters equivalently
+     */
+    public boolean isBaseline() {
+        return baseline;
+    }
+
+    /**
+     * @return The template, separator, and any options
+     */
+    public List<String> getVariableParameters() {
+        return variableParameters;
+    }
+
+}
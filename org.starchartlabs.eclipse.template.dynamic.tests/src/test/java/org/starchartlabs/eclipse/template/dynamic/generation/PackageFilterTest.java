@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.generation;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PackageFilterTest {
+
+    @Test(expected = NullPointerException.class)
+    public void createNullPatterns() throws Exception {
+        PackageFilter.create(null);
+    }
+
+    @Test
+    public void matchesExact() throws Exception {
+        PackageFilter filter = PackageFilter.create(Collections.singletonList("com.example"));
+
+        Assert.assertTrue(filter.matches("com.example"));
+        Assert.assertFalse(filter.matches("com.example.model"));
+        Assert.assertFalse(filter.matches("comXexample"));
+    }
+
+    @Test
+    public void matchesSingleSegment() throws Exception {
+        PackageFilter filter = PackageFilter.create(Collections.singletonList("com.example.*"));
+
+        Assert.assertTrue(filter.matches("com.example.model"));
+        Assert.assertFalse(filter.matches("com.example.model.dto"));
+        Assert.assertFalse(filter.matches("com.other.model"));
+    }
+
+    @Test
+    public void matchesPartialSegment() throws Exception {
+        PackageFilter filter = PackageFilter.create(Collections.singletonList("com.example.*model"));
+
+        Assert.assertTrue(filter.matches("com.example.model"));
+        Assert.assertTrue(filter.matches("com.example.datamodel"));
+        Assert.assertFalse(filter.matches("com.example.models"));
+    }
+
+    @Test
+    public void matchesAnySegments() throws Exception {
+        PackageFilter filter = PackageFilter.create(Collections.singletonList("com.example.**"));
+
+        Assert.assertTrue(filter.matches("com.example"));
+        Assert.assertTrue(filter.matches("com.example.model"));
+        Assert.assertTrue(filter.matches("com.example.model.dto"));
+        Assert.assertFalse(filter.matches("com.examples"));
+        Assert.assertFalse(filter.matches("com"));
+    }
+
+    @Test
+    public void matchesAnySegmentsWithin() throws Exception {
+        PackageFilter filter = PackageFilter.create(Collections.singletonList("com.**.dto"));
+
+        Assert.assertTrue(filter.matches("com.example.dto"));
+        Assert.assertTrue(filter.matches("com.example.model.dto"));
+        Assert.assertFalse(filter.matches("org.example.dto"));
+    }
+
+    @Test
+    public void matchesMultiplePatterns() throws Exception {
+        PackageFilter filter = PackageFilter.create(Arrays.asList("com.example.model", " org.example.** "));
+
+        Assert.assertTrue(filter.matches("com.example.model"));
+        Assert.assertTrue(filter.matches("org.example.api"));
+        Assert.assertFalse(filter.matches("com.example.api"));
+    }
+
+    @Test
+    public void matchesLiteralCharacters() throws Exception {
+        PackageFilter filter = PackageFilter.create(Collections.singletonList("com.ex$ample"));
+
+        Assert.assertTrue(filter.matches("com.ex$ample"));
+        Assert.assertFalse(filter.matches("comaex$ample"));
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.model;
+
+import java.util.Arrays;
+
+import org.eclipse.jdt.core.Flags;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BeanIntrospectorTest {
+
+    private static final String[] SOURCE_HANDLES = new String[] { "=Example/src<example{Parent.java[Parent",
+            "=Example/src<example{Child.java[Child" };
+
+    @Test
+    public void createModel() throws Exception {
+        MemberSnapshot type = snapshot(new String[] { "name", "count" }, new int[] { Flags.AccPrivate, 0 },
+                new String[] { "getName", "getCount" }, new int[] { Flags.AccPublic, Flags.AccPrivate });
+
+        BeanModel model = BeanIntrospector.createModel(new MemberSnapshot[] { type }, AccessorNaming.DEFAULT,
+                new String[] { SOURCE_HANDLES[1] });
+
+        // Private members of the type itself are accessible to templates inserted into it
+        Assert.assertEquals(Arrays.asList("name", "count"), Arrays.asList(getFieldNames(model)));
+        Assert.assertEquals("getName()", model.getGetter(0));
+        Assert.assertEquals("getCount()", model.getGetter(1));
+    }
+
+    @Test
+    public void createModelInheritedExcludesPrivateFields() throws Exception {
+        MemberSnapshot parent = snapshot(new String[] { "id", "version" },
+                new int[] { Flags.AccPrivate, Flags.AccProtected }, new String[] { "getId", "getVersion" },
+                new int[] { Flags.AccPublic, Flags.AccPublic });
+        MemberSnapshot child = snapshot(new String[] { "name" }, new int[] { Flags.AccPrivate },
+                new String[] { "getName" }, new int[] { Flags.AccPublic });
+
+        BeanModel model = BeanIntrospector.createModel(new MemberSnapshot[] { parent, child }, AccessorNaming.DEFAULT,
+                SOURCE_HANDLES);
+
+        Assert.assertEquals(Arrays.asList("version", "name"), Arrays.asList(getFieldNames(model)));
+    }
+
+    @Test
+    public void createModelInheritedExcludesPrivateGetters() throws Exception {
+        MemberSnapshot parent = snapshot(new String[] { "id" }, new int[] { Flags.AccProtected },
+                new String[] { "getId" }, new int[] { Flags.AccPrivate });
+        MemberSnapshot child = snapshot(new String[0], new int[0], new String[0], new int[0]);
+
+        BeanModel model = BeanIntrospector.createModel(new MemberSnapshot[] { parent, child }, AccessorNaming.DEFAULT,
+                SOURCE_HANDLES);
+
+        Assert.assertEquals(0, model.getFieldCount());
+    }
+
+    @Test
+    public void createModelInheritedPrivateFieldNotHiding() throws Exception {
+        MemberSnapshot parent = snapshot(new String[] { "name" }, new int[] { Flags.AccPrivate },
+                new String[] { "getName" }, new int[] { Flags.AccPublic });
+        MemberSnapshot child = snapshot(new String[] { "count", "name" },
+                new int[] { Flags.AccPrivate, Flags.AccPrivate }, new String[] { "getCount" },
+                new int[] { Flags.AccPublic });
+
+        BeanModel model = BeanIntrospector.createModel(new MemberSnapshot[] { parent, child }, AccessorNaming.DEFAULT,
+                SOURCE_HANDLES);
+
+        // The superclass field is not accessible, so the type's own field of the same name takes its declared position
+        Assert.assertEquals(Arrays.asList("count", "name"), Arrays.asList(getFieldNames(model)));
+        Assert.assertEquals("getName()", model.getGetter(1));
+    }
+
+    private static MemberSnapshot snapshot(String[] fieldNames, int[] fieldFlags, String[] methodNames,
+            int[] methodFlags) {
+        String[] typeSignatures = new String[fieldNames.length];
+        String[][] annotations = new String[fieldNames.length][];
+
+        Arrays.fill(typeSignatures, "QString;");
+        Arrays.fill(annotations, new String[0]);
+
+        return new MemberSnapshot(fieldNames, typeSignatures, fieldFlags, annotations, new String[fieldNames.length],
+                methodNames, methodFlags, 0);
+    }
+
+    private static String[] getFieldNames(BeanModel model) {
+        String[] result = new String[model.getFieldCount()];
+
+        for (int i = 0; i < result.length; i++) {
+            result[i] = model.getFieldName(i);
+        }
+
+        return result;
+    }
+
+}
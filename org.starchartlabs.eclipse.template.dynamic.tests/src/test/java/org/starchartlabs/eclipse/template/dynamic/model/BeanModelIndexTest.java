@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.model;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BeanModelIndexTest {
+
+    private static final int CONFIGURATION = 42;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private IProject project;
+
+    private IFile source;
+
+    private String typeHandle;
+
+    private Path indexFile;
+
+    @Before
+    public void setup() throws Exception {
+        project = TestProjects.createJavaProject(getClass().getSimpleName());
+        source = TestProjects.createSource(project, "Example", "public class Example { private String name; }");
+        typeHandle = TestProjects.getType(source).getHandleIdentifier();
+        indexFile = folder.getRoot().toPath().resolve("index.bin");
+    }
+
+    @After
+    public void teardown() throws Exception {
+        project.delete(true, true, null);
+    }
+
+    @Test
+    public void saveLoadRoundTrip() throws Exception {
+        BeanModelIndex index = new BeanModelIndex();
+        index.put(new BeanModelKey(typeHandle, false), createModel(typeHandle));
+        index.save(indexFile, CONFIGURATION);
+
+        BeanModelIndex loaded = new BeanModelIndex();
+        loaded.load(indexFile, CONFIGURATION);
+
+        assertModelEquals(createModel(typeHandle), loaded.get(new BeanModelKey(typeHandle, false)));
+        Assert.assertNull(loaded.get(new BeanModelKey(typeHandle, true)));
+    }
+
+    @Test
+    public void saveOverLoadedFile() throws Exception {
+        BeanModelIndex index = new BeanModelIndex();
+        index.put(new BeanModelKey(typeHandle, false), createModel(typeHandle));
+        index.save(indexFile, CONFIGURATION);
+
+        // Replacing the file an index was loaded from must not be prevented by the loaded index
+        BeanModelIndex loaded = new BeanModelIndex();
+        loaded.load(indexFile, CONFIGURATION);
+        loaded.put(new BeanModelKey(typeHandle, true), createModel(typeHandle));
+        loaded.save(indexFile, CONFIGURATION);
+
+        BeanModelIndex reloaded = new BeanModelIndex();
+        reloaded.load(indexFile, CONFIGURATION);
+
+        assertModelEquals(createModel(typeHandle), reloaded.get(new BeanModelKey(typeHandle, false)));
+        assertModelEquals(createModel(typeHandle), reloaded.get(new BeanModelKey(typeHandle, true)));
+    }
+
+    @Test
+    public void loadChangedSource() throws Exception {
+        BeanModelIndex index = new BeanModelIndex();
+        index.put(new BeanModelKey(typeHandle, false), createModel(typeHandle));
+        index.save(indexFile, CONFIGURATION);
+
+        TestProjects.setSource(source, "public class Example { }");
+
+        BeanModelIndex loaded = new BeanModelIndex();
+        loaded.load(indexFile, CONFIGURATION);
+
+        Assert.assertNull(loaded.get(new BeanModelKey(typeHandle, false)));
+    }
+
+    @Test
+    public void saveKeepsStampsFromRecording() throws Exception {
+        BeanModelIndex index = new BeanModelIndex();
+        index.put(new BeanModelKey(typeHandle, false), createModel(typeHandle));
+
+        TestProjects.setSource(source, "public class Example { }");
+        index.save(indexFile, CONFIGURATION);
+
+        BeanModelIndex loaded = new BeanModelIndex();
+        loaded.load(indexFile, CONFIGURATION);
+
+        Assert.assertNull(loaded.get(new BeanModelKey(typeHandle, false)));
+    }
+
+    @Test
+    public void loadDifferentConfiguration() throws Exception {
+        BeanModelIndex index = new BeanModelIndex();
+        index.put(new BeanModelKey(typeHandle, false), createModel(typeHandle));
+        index.save(indexFile, CONFIGURATION);
+
+        BeanModelIndex loaded = new BeanModelIndex();
+        loaded.load(indexFile, CONFIGURATION + 1);
+
+        Assert.assertNull(loaded.get(new BeanModelKey(typeHandle, false)));
+    }
+
+    @Test
+    public void loadMissingFile() throws Exception {
+        BeanModelIndex loaded = new BeanModelIndex();
+        loaded.load(indexFile, CONFIGURATION);
+
+        Assert.assertNull(loaded.get(new BeanModelKey(typeHandle, false)));
+    }
+
+    @Test
+    public void loadCorruptFile() throws Exception {
+        BeanModelIndex index = new BeanModelIndex();
+        index.put(new BeanModelKey(typeHandle, false), createModel(typeHandle));
+        index.save(indexFile, CONFIGURATION);
+
+        byte[] content = Files.readAllBytes(indexFile);
+        Files.write(indexFile, Arrays.copyOf(content, content.length - 8));
+
+        BeanModelIndex loaded = new BeanModelIndex();
+        loaded.load(indexFile, CONFIGURATION);
+
+        Assert.assertNull(loaded.get(new BeanModelKey(typeHandle, false)));
+    }
+
+    @Test
+    public void saveSkipsModelsWithoutSources() throws Exception {
+        BeanModelIndex index = new BeanModelIndex();
+        index.put(new BeanModelKey("=Other", false), createModel());
+        index.save(indexFile, CONFIGURATION);
+
+        BeanModelIndex loaded = new BeanModelIndex();
+        loaded.load(indexFile, CONFIGURATION);
+
+        Assert.assertNull(loaded.get(new BeanModelKey("=Other", false)));
+    }
+
+    @Test
+    public void invalidateRemovesEntries() throws Exception {
+        BeanModelIndex index = new BeanModelIndex();
+        index.put(new BeanModelKey(typeHandle, false), createModel(typeHandle));
+        index.save(indexFile, CONFIGURATION);
+
+        BeanModelIndex loaded = new BeanModelIndex();
+        loaded.load(indexFile, CONFIGURATION);
+        loaded.invalidate(JavaCore.create(project).getHandleIdentifier());
+
+        Assert.assertNull(loaded.get(new BeanModelKey(typeHandle, false)));
+    }
+
+    private static BeanModel createModel(String... sourceHandles) {
+        return new BeanModel(new String[] { "name", "count" }, new String[] { "getName()", "getCount()" },
+                new String[] { "QString;", "I" }, new int[] { 2, 18 }, new String[][] { { "Nullable" }, {} },
+                sourceHandles);
+    }
+
+    private static void assertModelEquals(BeanModel expected, BeanModel actual) {
+        Assert.assertNotNull(actual);
+        Assert.assertEquals(expected.getFieldCount(), actual.getFieldCount());
+
+        for (int i = 0; i < expected.getFieldCount(); i++) {
+            Assert.assertEquals(expected.getFieldName(i), actual.getFieldName(i));
+            Assert.assertEquals(expected.getGetter(i), actual.getGetter(i));
+            Assert.assertEquals(expected.getFieldTypeSignature(i), actual.getFieldTypeSignature(i));
+            Assert.assertEquals(expected.getFieldFlags(i), actual.getFieldFlags(i));
+            Assert.assertArrayEquals(expected.getFieldAnnotations(i), actual.getFieldAnnotations(i));
+        }
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.model;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class GetterIndexTest {
+
+    @Test(expected = NullPointerException.class)
+    public void createNullMethodNames() throws Exception {
+        GetterIndex.create(null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void getGetterNullFieldName() throws Exception {
+        GetterIndex.create(Collections.emptyList()).getGetter(null, false);
+    }
+
+    @Test
+    public void getGetterDefaultNaming() throws Exception {
+        GetterIndex index = GetterIndex.create(Arrays.asList("getName", "isActive", "getValid", "isValid", "toString"));
+
+        Assert.assertEquals("getName", index.getGetter("name", false));
+        Assert.assertEquals("isActive", index.getGetter("active", true));
+        Assert.assertEquals("getValid", index.getGetter("valid", true));
+        Assert.assertEquals("getValid", index.getGetter("valid", false));
+    }
+
+    @Test
+    public void getGetterBooleanPrefixOnlyForBooleans() throws Exception {
+        GetterIndex index = GetterIndex.create(Arrays.asList("isActive"));
+
+        Assert.assertNull(index.getGetter("active", false));
+    }
+
+    @Test
+    public void getGetterNoMatch() throws Exception {
+        GetterIndex index = GetterIndex.create(Arrays.asList("getName", "get", "name", "getname"));
+
+        Assert.assertNull(index.getGetter("other", false));
+        Assert.assertNull(index.getGetter("", false));
+        Assert.assertNull(index.getGetter("nam", false));
+        Assert.assertNull(index.getGetter("names", false));
+    }
+
+    @Test
+    public void getGetterCapitalizesOnlyFirstCharacter() throws Exception {
+        GetterIndex index = GetterIndex.create(Arrays.asList("getURL", "getFirstName"));
+
+        Assert.assertEquals("getURL", index.getGetter("uRL", false));
+        Assert.assertEquals("getFirstName", index.getGetter("firstName", false));
+        Assert.assertNull(index.getGetter("url", false));
+        Assert.assertNull(index.getGetter("firstname", false));
+    }
+
+    @Test
+    public void getGetterManyMethods() throws Exception {
+        String[] names = new String[500];
+
+        for (int i = 0; i < names.length; i++) {
+            names[i] = "getField" + i;
+        }
+
+        GetterIndex index = GetterIndex.create(Arrays.asList(names));
+
+        for (int i = 0; i < names.length; i++) {
+            Assert.assertEquals(names[i], index.getGetter("field" + i, false));
+        }
+    }
+
+    @Test
+    public void getGetterRankedStrategies() throws Exception {
+        AccessorNaming naming = AccessorNaming.compile(Arrays.asList(NamingStrategy.accessorPrefix("get"),
+                NamingStrategy.booleanAccessorPrefix("is"), NamingStrategy.booleanAccessorPrefix("has"),
+                NamingStrategy.fluentAccessor()));
+        GetterIndex index = GetterIndex.create(Arrays.asList("getName", "name", "hasChildren", "isChildren", "size",
+                "Other"), naming);
+
+        Assert.assertEquals("getName", index.getGetter("name", false));
+        Assert.assertEquals("isChildren", index.getGetter("children", true));
+        Assert.assertEquals("size", index.getGetter("size", false));
+        Assert.assertNull(index.getGetter("other", false));
+    }
+
+    @Test
+    public void getGetterFieldPrefix() throws Exception {
+        AccessorNaming naming = AccessorNaming.compile(Arrays.asList(NamingStrategy.accessorPrefix("get"),
+                NamingStrategy.fieldPrefix("m"), NamingStrategy.fieldPrefix("_")));
+        GetterIndex index = GetterIndex.create(Arrays.asList("getName", "getMode", "getMValue", "getCount"),
+                naming);
+
+        Assert.assertEquals("getName", index.getGetter("mName", false));
+        Assert.assertEquals("getMode", index.getGetter("mode", false));
+        Assert.assertEquals("getMValue", index.getGetter("mValue", false));
+        Assert.assertEquals("getCount", index.getGetter("_count", false));
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.model;
+
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.FieldDeclaration;
+import org.eclipse.jdt.core.dom.TypeDeclaration;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LombokAccessorsTest {
+
+    @Test
+    public void isGeneratedForTypeSingleImport() throws Exception {
+        Assert.assertTrue(isGeneratedForType("import lombok.Getter;\n@Getter class Example { int value; }"));
+        Assert.assertTrue(isGeneratedForType("import lombok.Data;\n@Data class Example { int value; }"));
+        Assert.assertTrue(isGeneratedForType("import lombok.Value;\n@Value class Example { int value; }"));
+    }
+
+    @Test
+    public void isGeneratedForTypeOnDemandImport() throws Exception {
+        Assert.assertTrue(isGeneratedForType("import lombok.*;\n@Data class Example { int value; }"));
+    }
+
+    @Test
+    public void isGeneratedForTypeQualifiedWithoutImport() throws Exception {
+        Assert.assertTrue(isGeneratedForType("@lombok.Data class Example { int value; }"));
+        Assert.assertTrue(isGeneratedForType("@lombok.Getter class Example { int value; }"));
+    }
+
+    @Test
+    public void isGeneratedForTypeNotImported() throws Exception {
+        Assert.assertFalse(isGeneratedForType("@Getter class Example { int value; }"));
+        Assert.assertFalse(isGeneratedForType("import lombok.Getter;\n@Value class Example { int value; }"));
+        Assert.assertFalse(isGeneratedForType("import lombok.experimental.*;\n@Data class Example { int value; }"));
+    }
+
+    @Test
+    public void isGeneratedForTypeOtherPackage() throws Exception {
+        Assert.assertFalse(isGeneratedForType("import com.example.Value;\n@Value class Example { int value; }"));
+        Assert.assertFalse(isGeneratedForType("@com.example.Data class Example { int value; }"));
+        Assert.assertFalse(isGeneratedForType("@lombok.Setter class Example { int value; }"));
+    }
+
+    @Test
+    public void isGeneratedForTypeOnDemandShadowed() throws Exception {
+        Assert.assertFalse(
+                isGeneratedForType("import lombok.*;\nimport com.example.Value;\n@Value class Example { int value; }"));
+        Assert.assertTrue(
+                isGeneratedForType("import lombok.*;\nimport com.example.Value;\n@Data class Example { int value; }"));
+    }
+
+    @Test
+    public void isGeneratedForTypeAccessLevelNone() throws Exception {
+        Assert.assertFalse(isGeneratedForType(
+                "import lombok.Getter;\nimport lombok.AccessLevel;\n@Getter(AccessLevel.NONE) class Example { }"));
+    }
+
+    @Test
+    public void isGeneratedForFieldNotAnnotated() throws Exception {
+        Assert.assertNull(isGeneratedForField("import lombok.Getter;\nclass Example { int value; }"));
+    }
+
+    @Test
+    public void isGeneratedForField() throws Exception {
+        Assert.assertEquals(Boolean.TRUE,
+                isGeneratedForField("import lombok.Getter;\nclass Example { @Getter int value; }"));
+        Assert.assertEquals(Boolean.TRUE, isGeneratedForField("class Example { @lombok.Getter int value; }"));
+        Assert.assertNull(isGeneratedForField("class Example { @Getter int value; }"));
+        Assert.assertNull(isGeneratedForField("import lombok.Data;\nclass Example { @Data int value; }"));
+    }
+
+    @Test
+    public void isGeneratedForFieldAccessLevel() throws Exception {
+        Assert.assertEquals(Boolean.FALSE, isGeneratedForField(
+                "import lombok.*;\nclass Example { @Getter(AccessLevel.NONE) int value; }"));
+        Assert.assertEquals(Boolean.FALSE, isGeneratedForField(
+                "class Example { @lombok.Getter(lombok.AccessLevel.NONE) int value; }"));
+        Assert.assertEquals(Boolean.FALSE, isGeneratedForField(
+                "import lombok.*;\nimport static lombok.AccessLevel.NONE;\n"
+                        + "class Example { @Getter(NONE) int value; }"));
+        Assert.assertEquals(Boolean.FALSE, isGeneratedForField(
+                "import lombok.*;\nclass Example { @Getter(value = AccessLevel.NONE) int value; }"));
+        Assert.assertEquals(Boolean.TRUE, isGeneratedForField(
+                "import lombok.*;\nclass Example { @Getter(AccessLevel.PUBLIC) int value; }"));
+        Assert.assertEquals(Boolean.TRUE, isGeneratedForField(
+                "import lombok.*;\nclass Example { @Getter(onMethod_ = @Deprecated) int value; }"));
+    }
+
+    @Test
+    public void getGeneratedGetter() throws Exception {
+        Assert.assertEquals("getName", LombokAccessors.getGeneratedGetter("name", "QString;", 0, true, null));
+        Assert.assertEquals("isActive", LombokAccessors.getGeneratedGetter("active", "Z", 0, true, null));
+        Assert.assertEquals("isValid", LombokAccessors.getGeneratedGetter("isValid", "Z", 0, true, null));
+        Assert.assertEquals("getIsValid", LombokAccessors.getGeneratedGetter("isValid", "QBoolean;", 0, true, null));
+        Assert.assertNull(LombokAccessors.getGeneratedGetter("name", "QString;", 0, true, Boolean.FALSE));
+        Assert.assertEquals("getName", LombokAccessors.getGeneratedGetter("name", "QString;", 0, false, Boolean.TRUE));
+        Assert.assertNull(LombokAccessors.getGeneratedGetter("name", "QString;", 0, false, null));
+    }
+
+    @Test
+    public void getGeneratedGetterStatic() throws Exception {
+        Assert.assertNull(LombokAccessors.getGeneratedGetter("NAME", "QString;", Flags.AccStatic, true, null));
+        Assert.assertEquals("getNAME",
+                LombokAccessors.getGeneratedGetter("NAME", "QString;", Flags.AccStatic, false, Boolean.TRUE));
+    }
+
+    private static boolean isGeneratedForType(String source) {
+        CompilationUnit unit = parse(source);
+
+        return LombokAccessors.forImports(unit.imports()).isGeneratedForType(getType(unit).modifiers());
+    }
+
+    private static Boolean isGeneratedForField(String source) {
+        CompilationUnit unit = parse(source);
+        FieldDeclaration field = getType(unit).getFields()[0];
+
+        return LombokAccessors.forImports(unit.imports()).isGeneratedForField(field.modifiers());
+    }
+
+    private static TypeDeclaration getType(CompilationUnit unit) {
+        return (TypeDeclaration) unit.types().get(0);
+    }
+
+    private static CompilationUnit parse(String source) {
+        ASTParser parser = ASTParser.newParser(AST.JLS16);
+        parser.setKind(ASTParser.K_COMPILATION_UNIT);
+        parser.setSource(source.toCharArray());
+
+        return (CompilationUnit) parser.createAST(null);
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.model;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.jdt.core.IType;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MemberSnapshotTest {
+
+    private static final ParallelScanner SCANNER = new ParallelScanner(ForkJoinPool.commonPool(), () -> 0);
+
+    private IProject project;
+
+    @Before
+    public void setup() throws Exception {
+        project = TestProjects.createJavaProject(getClass().getSimpleName());
+    }
+
+    @After
+    public void teardown() throws Exception {
+        project.delete(true, true, null);
+    }
+
+    @Test
+    public void read() throws Exception {
+        IType type = TestProjects.getType(TestProjects.createSource(project, "Example",
+                "public class Example {\n"
+                        + "  private String name;\n"
+                        + "  private int count;\n"
+                        + "  public String getName() { return name; }\n"
+                        + "  public int getCount() { return count; }\n"
+                        + "  public void setName(String name) { this.name = name; }\n"
+                        + "}\n"));
+
+        MemberSnapshot snapshot = MemberSnapshot.read(type, SCANNER);
+
+        Assert.assertEquals(2, snapshot.getFieldCount());
+        Assert.assertEquals("name", snapshot.getFieldName(0));
+        Assert.assertEquals("QString;", snapshot.getFieldTypeSignature(0));
+        Assert.assertEquals("count", snapshot.getFieldName(1));
+        Assert.assertEquals("I", snapshot.getFieldTypeSignature(1));
+        Assert.assertEquals(2, snapshot.getMethodCount());
+        Assert.assertEquals("getName", snapshot.getMethodName(0));
+        Assert.assertEquals("getCount", snapshot.getMethodName(1));
+
+        // Member list, imports, and type annotations, then type signature, flags, and annotations per field, and flags
+        // per method
+        Assert.assertEquals(3 + 2 * 3 + 2, snapshot.getModelCalls());
+    }
+
+    @Test
+    public void readLombok() throws Exception {
+        IType type = TestProjects.getType(TestProjects.createSource(project, "Example",
+                "import lombok.Getter;\n"
+                        + "@Getter\n"
+                        + "public class Example {\n"
+                        + "  private String name;\n"
+                        + "  @Getter(lombok.AccessLevel.NONE) private int count;\n"
+                        + "  private boolean active;\n"
+                        + "}\n"));
+
+        MemberSnapshot snapshot = MemberSnapshot.read(type, SCANNER);
+
+        Assert.assertEquals(3, snapshot.getFieldCount());
+        Assert.assertEquals("getName", snapshot.getGeneratedGetter(0));
+        Assert.assertNull(snapshot.getGeneratedGetter(1));
+        Assert.assertEquals("isActive", snapshot.getGeneratedGetter(2));
+
+        // Member list, imports, type annotations, and the values of the type's "Getter", then type signature, flags,
+        // and annotations per field, and the values of the field's "Getter"
+        Assert.assertEquals(4 + 3 * 3 + 1, snapshot.getModelCalls());
+    }
+
+    @Test
+    public void readLombokQualified() throws Exception {
+        IType type = TestProjects.getType(TestProjects.createSource(project, "Example",
+                "@lombok.Data\n"
+                        + "public class Example {\n"
+                        + "  private String name;\n"
+                        + "}\n"));
+
+        MemberSnapshot snapshot = MemberSnapshot.read(type, SCANNER);
+
+        Assert.assertEquals(1, snapshot.getFieldCount());
+        Assert.assertEquals("getName", snapshot.getGeneratedGetter(0));
+    }
+
+    @Test
+    public void readLombokNotImported() throws Exception {
+        IType type = TestProjects.getType(TestProjects.createSource(project, "Example",
+                "@Getter\n"
+                        + "public class Example {\n"
+                        + "  private String name;\n"
+                        + "}\n"));
+
+        MemberSnapshot snapshot = MemberSnapshot.read(type, SCANNER);
+
+        Assert.assertEquals(1, snapshot.getFieldCount());
+        Assert.assertNull(snapshot.getGeneratedGetter(0));
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.model;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IProjectDescription;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+
+/**
+ * Creates Java projects within the test workspace, for tests which read types from the Java model
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+final class TestProjects {
+
+    private static final String SOURCE_FOLDER = "src";
+
+    /**
+     * Prevent instantiation of utility class
+     */
+    private TestProjects() {
+    }
+
+    /**
+     * @param name
+     *            The name of the project
+     * @return A new Java project with a single source folder, and no libraries
+     * @throws CoreException
+     *             If there is an error creating the project
+     */
+    public static IProject createJavaProject(String name) throws CoreException {
+        IProject result = ResourcesPlugin.getWorkspace().getRoot().getProject(name);
+        result.create(null);
+        result.open(null);
+
+        IProjectDescription description = result.getDescription();
+        description.setNatureIds(new String[] { JavaCore.NATURE_ID });
+        result.setDescription(description, null);
+
+        IFolder sourceFolder = result.getFolder(SOURCE_FOLDER);
+        sourceFolder.create(true, true, null);
+
+        IJavaProject javaProject = JavaCore.create(result);
+        javaProject.setRawClasspath(new IClasspathEntry[] { JavaCore.newSourceEntry(sourceFolder.getFullPath()) },
+                result.getFullPath().append("bin"), null);
+
+        return result;
+    }
+
+    /**
+     * @param project
+     *            A project created by {@link #createJavaProject(String)}
+     * @param typeName
+     *            The name of a top-level type in the default package
+     * @param content
+     *            The source of the compilation unit declaring the type
+     * @return The source file created
+     * @throws CoreException
+     *             If there is an error creating the file
+     */
+    public static IFile createSource(IProject project, String typeName, String content) throws CoreException {
+        IFile result = project.getFolder(SOURCE_FOLDER).getFile(typeName + ".java");
+        result.create(toStream(content), true, null);
+
+        return result;
+    }
+
+    /**
+     * @param file
+     *            A source file created by {@link #createSource(IProject, String, String)}
+     * @param content
+     *            The new source of the compilation unit
+     * @throws CoreException
+     *             If there is an error writing the file
+     */
+    public static void setSource(IFile file, String content) throws CoreException {
+        file.setContents(toStream(content), IResource.FORCE, null);
+    }
+
+    /**
+     * @param file
+     *            A source file created by {@link #createSource(IProject, String, String)}
+     * @return The top-level type named for the file
+     */
+    public static IType getType(IFile file) {
+        String name = file.getName();
+
+        return JavaCore.createCompilationUnitFrom(file).getType(name.substring(0, name.lastIndexOf('.')));
+    }
+
+    private static ByteArrayInputStream toStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.resolver;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.starchartlabs.eclipse.template.dynamic.resolver.CompiledTemplate.Placeholder;
+import org.starchartlabs.eclipse.template.dynamic.resolver.CompiledTemplate.Values;
+
+public class CompiledTemplateTest {
+
+    private static final Set<Placeholder> FIELD_PLACEHOLDERS = EnumSet.of(Placeholder.NAME, Placeholder.GETTER);
+
+    private static final Values VALUES = (placeholder, field) -> placeholder.getKey() + field;
+
+    @Test(expected = NullPointerException.class)
+    public void compileNullSource() throws Exception {
+        CompiledTemplate.compile(null, FIELD_PLACEHOLDERS);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void compileNullSupported() throws Exception {
+        CompiledTemplate.compile("${name}", null);
+    }
+
+    @Test
+    public void renderSupportedPlaceholders() throws Exception {
+        CompiledTemplate template = CompiledTemplate.compile("${name}=${getter};", FIELD_PLACEHOLDERS);
+
+        Assert.assertEquals("name3=getter3;", render(template, VALUES, 3));
+        Assert.assertEquals(EnumSet.of(Placeholder.NAME, Placeholder.GETTER), template.getReferences());
+    }
+
+    @Test
+    public void renderUnsupportedPlaceholderAsLiteral() throws Exception {
+        CompiledTemplate template = CompiledTemplate.compile("${type} ${name} ${unknown}", FIELD_PLACEHOLDERS);
+
+        Assert.assertEquals("${type} name0 ${unknown}", render(template, VALUES, 0));
+        Assert.assertEquals(EnumSet.of(Placeholder.NAME), template.getReferences());
+    }
+
+    @Test
+    public void renderPlaceholderNestedInUnsupported() throws Exception {
+        CompiledTemplate template = CompiledTemplate.compile("${a${name}}", FIELD_PLACEHOLDERS);
+
+        Assert.assertEquals("${aname1}", render(template, VALUES, 1));
+    }
+
+    @Test
+    public void renderRepeatedOpeningMarkers() throws Exception {
+        CompiledTemplate template = CompiledTemplate.compile("${${${name}", FIELD_PLACEHOLDERS);
+
+        Assert.assertEquals("${${name2", render(template, VALUES, 2));
+    }
+
+    @Test
+    public void renderUnterminatedPlaceholder() throws Exception {
+        CompiledTemplate template = CompiledTemplate.compile("${name} + ${name", FIELD_PLACEHOLDERS);
+
+        Assert.assertEquals("name0 + ${name", render(template, VALUES, 0));
+    }
+
+    @Test
+    public void renderLiteralDollarAndBackslash() throws Exception {
+        CompiledTemplate template = CompiledTemplate.compile("$1 \\n $ {name} \\${name} $", FIELD_PLACEHOLDERS);
+
+        Assert.assertEquals("$1 \\n $ {name} \\name0 $", render(template, VALUES, 0));
+    }
+
+    @Test
+    public void renderValuesWithDollarAndBackslash() throws Exception {
+        CompiledTemplate template = CompiledTemplate.compile("[${name}]", FIELD_PLACEHOLDERS);
+
+        Assert.assertEquals("[$1\\0${getter}]", render(template, (placeholder, field) -> "$1\\0${getter}", 0));
+    }
+
+    @Test
+    public void renderNoPlaceholders() throws Exception {
+        CompiledTemplate template = CompiledTemplate.compile("", FIELD_PLACEHOLDERS);
+
+        Assert.assertEquals("", template.render());
+        Assert.assertTrue(template.getReferences().isEmpty());
+    }
+
+    @Test
+    public void renderNewline() throws Exception {
+        CompiledTemplate template = CompiledTemplate.compile(",${newline}", EnumSet.of(Placeholder.NEWLINE));
+
+        Assert.assertEquals("," + System.lineSeparator(), template.render());
+    }
+
+    @Test
+    public void renderedLengthMatchesRender() throws Exception {
+        CompiledTemplate template = CompiledTemplate.compile("a ${name} b ${getter} ${c}", FIELD_PLACEHOLDERS);
+
+        Assert.assertEquals(render(template, VALUES, 12).length(), template.getRenderedLength(VALUES, 12));
+    }
+
+    private static String render(CompiledTemplate template, Values values, int field) {
+        StringBuilder builder = new StringBuilder();
+        template.render(builder, values, field);
+
+        return builder.toString();
+    }
+
+}
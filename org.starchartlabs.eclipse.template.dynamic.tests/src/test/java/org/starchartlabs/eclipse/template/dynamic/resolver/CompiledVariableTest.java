@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.resolver;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.starchartlabs.eclipse.template.dynamic.model.BeanModel;
+import org.starchartlabs.eclipse.template.dynamic.model.TypeSignatureCache;
+
+public class CompiledVariableTest {
+
+    private static final String[] NO_ANNOTATIONS = new String[0];
+
+    private static final BeanModel MODEL = new BeanModel(new String[] { "name", "count", "flag" },
+            new String[] { "getName()", "getCount()", "isFlag()" }, new String[] { "QString;", "I", "Z" },
+            new int[3], new String[][] { NO_ANNOTATIONS, NO_ANNOTATIONS, NO_ANNOTATIONS }, new String[0]);
+
+    @Test
+    public void render() throws Exception {
+        CompiledVariable variable = CompiledVariable.compile(Arrays.asList("${name}=${getter}", ", "));
+
+        String result = variable.render(MODEL, new int[] { 2, 0 }, new TypeSignatureCache());
+
+        Assert.assertEquals("flag=isFlag(), name=getName()", result);
+    }
+
+    @Test
+    public void renderTyped() throws Exception {
+        CompiledVariable variable = CompiledVariable.compile(Arrays.asList("${type} ${name}", "${newline}"));
+
+        String result = variable.render(MODEL, new int[] { 0, 1 }, new TypeSignatureCache());
+
+        Assert.assertEquals("String name" + System.lineSeparator() + "int count", result);
+    }
+
+    @Test
+    public void renderNoFields() throws Exception {
+        CompiledVariable variable = CompiledVariable.compile(Arrays.asList("${name}", ", "));
+
+        Assert.assertEquals("", variable.render(MODEL, new int[0], new TypeSignatureCache()));
+    }
+
+}
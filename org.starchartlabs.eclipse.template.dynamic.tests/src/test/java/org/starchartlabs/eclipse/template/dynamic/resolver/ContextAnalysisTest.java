@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.resolver;
+
+import org.eclipse.jface.text.templates.Template;
+import org.eclipse.jface.text.templates.TemplateBuffer;
+import org.eclipse.jface.text.templates.TemplateContext;
+import org.eclipse.jface.text.templates.TemplateContextType;
+import org.junit.Assert;
+import org.junit.Test;
+import org.starchartlabs.eclipse.template.dynamic.model.BeanModel;
+
+public class ContextAnalysisTest {
+
+    private static final BeanModel MODEL = new BeanModel(new String[] { "name" }, new String[] { "getName()" },
+            new String[] { "QString;" }, new int[1], new String[][] { new String[0] }, new String[0]);
+
+    @Test(expected = NullPointerException.class)
+    public void forContextNull() throws Exception {
+        ContextAnalysis.forContext(null, null);
+    }
+
+    @Test
+    public void forContextSameContext() throws Exception {
+        TemplateContext context = createContext();
+
+        ContextAnalysis analysis = ContextAnalysis.forContext(context, null);
+        analysis.setBeanModel(false, MODEL);
+
+        ContextAnalysis result = ContextAnalysis.forContext(context, analysis);
+
+        Assert.assertSame(analysis, result);
+        Assert.assertSame(MODEL, result.getBeanModel(false));
+        Assert.assertNull(result.getBeanModel(true));
+    }
+
+    @Test
+    public void forContextDifferentContext() throws Exception {
+        ContextAnalysis analysis = ContextAnalysis.forContext(createContext(), null);
+        analysis.setBeanModel(false, MODEL);
+
+        ContextAnalysis result = ContextAnalysis.forContext(createContext(), analysis);
+
+        Assert.assertNotSame(analysis, result);
+        Assert.assertNull(result.getBeanModel(false));
+    }
+
+    @Test
+    public void forContextReplacedAnalysis() throws Exception {
+        TemplateContext context = createContext();
+
+        ContextAnalysis analysis = ContextAnalysis.forContext(context, null);
+        ContextAnalysis other = ContextAnalysis.forContext(createContext(), analysis);
+
+        // Once replaced, an earlier context is given a new analysis rather than the replacement's
+        ContextAnalysis result = ContextAnalysis.forContext(context, other);
+
+        Assert.assertNotSame(other, result);
+        Assert.assertNotSame(analysis, result);
+    }
+
+    private static TemplateContext createContext() {
+        return new TemplateContext(new TemplateContextType("test")) {
+
+            @Override
+            public TemplateBuffer evaluate(Template template) {
+                return null;
+            }
+
+            @Override
+            public boolean canEvaluate(Template template) {
+                return false;
+            }
+
+        };
+    }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.resolver;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.eclipse.jdt.core.Flags;
+import org.junit.Assert;
+import org.junit.Test;
+import org.starchartlabs.eclipse.template.dynamic.model.BeanModel;
+
+public class FieldFilterTest {
+
+    private static final String[] NO_ANNOTATIONS = new String[0];
+
+    private static final BeanModel MODEL = new BeanModel(
+            new String[] { "id", "CONSTANT", "cache", "name", "createdAt" },
+            new String[] { "getId()", "getCONSTANT()", "getCache()", "getName()", "getCreatedAt()" },
+            new String[] { "J", "QString;", "QMap<QString;QObject;>;", "QString;", "Ljava.time.Instant;" },
+            new int[] { Flags.AccPrivate, Flags.AccPublic | Flags.AccStatic | Flags.AccFinal,
+                    Flags.AccPrivate | Flags.AccTransient, Flags.AccPrivate, Flags.AccProtected | Flags.AccFinal },
+            new String[][] { { "Id" }, NO_ANNOTATIONS, { "javax.persistence.Transient" }, { "Nullable", "Column" },
+                    { "javax.annotation.Nullable" } },
+            new String[0]);
+
+    @Test(expected = NullPointerException.class)
+    public void isFilterOptionNull() throws Exception {
+        FieldFilter.isFilterOption(null);
+    }
+
+    @Test
+    public void isFilterOption() throws Exception {
+        Assert.assertTrue(FieldFilter.isFilterOption("modifiers=private"));
+        Assert.assertTrue(FieldFilter.isFilterOption("modifiers=!static, !transient"));
+        Assert.assertTrue(FieldFilter.isFilterOption("annotation=Id"));
+        Assert.assertTrue(FieldFilter.isFilterOption("annotation=!javax.persistence.Transient"));
+        Assert.assertTrue(FieldFilter.isFilterOption("name=*At"));
+        Assert.assertTrue(FieldFilter.isFilterOption("name=!c?che"));
+    }
+
+    @Test
+    public void isFilterOptionMalformed() throws Exception {
+        Assert.assertFalse(FieldFilter.isFilterOption("inherited"));
+        Assert.assertFalse(FieldFilter.isFilterOption("modifiers="));
+        Assert.assertFalse(FieldFilter.isFilterOption("modifiers=private,synchronized"));
+        Assert.assertFalse(FieldFilter.isFilterOption("annotation=!"));
+        Assert.assertFalse(FieldFilter.isFilterOption("name= "));
+        Assert.assertFalse(FieldFilter.isFilterOption("order=alphabetical"));
+    }
+
+    @Test
+    public void selectNoFilter() throws Exception {
+        FieldFilter filter = FieldFilter.compile(Collections.singletonList("inherited"));
+
+        Assert.assertArrayEquals(new int[] { 0, 1, 2, 3, 4 }, filter.select(MODEL));
+    }
+
+    @Test
+    public void selectRequiredModifiers() throws Exception {
+        FieldFilter filter = FieldFilter.compile(Collections.singletonList("modifiers=private"));
+
+        Assert.assertArrayEquals(new int[] { 0, 2, 3 }, filter.select(MODEL));
+    }
+
+    @Test
+    public void selectForbiddenModifiers() throws Exception {
+        FieldFilter filter = FieldFilter.compile(Collections.singletonList("modifiers=!static,!transient"));
+
+        Assert.assertArrayEquals(new int[] { 0, 3, 4 }, filter.select(MODEL));
+    }
+
+    @Test
+    public void selectAnnotationBySimpleName() throws Exception {
+        FieldFilter filter = FieldFilter.compile(Collections.singletonList("annotation=Nullable"));
+
+        Assert.assertArrayEquals(new int[] { 3, 4 }, filter.select(MODEL));
+    }
+
+    @Test
+    public void selectAnnotationByQualifiedName() throws Exception {
+        FieldFilter filter = FieldFilter.compile(Collections.singletonList("annotation=javax.annotation.Nullable"));
+
+        // Annotations written by simple name in source can only be compared by simple name
+        Assert.assertArrayEquals(new int[] { 3, 4 }, filter.select(MODEL));
+    }
+
+    @Test
+    public void selectAnnotationQualifiedMismatch() throws Exception {
+        FieldFilter filter = FieldFilter.compile(Collections.singletonList("annotation=other.Nullable"));
+
+        Assert.assertArrayEquals(new int[] { 3 }, filter.select(MODEL));
+    }
+
+    @Test
+    public void selectForbiddenAnnotation() throws Exception {
+        FieldFilter filter = FieldFilter.compile(Collections.singletonList("annotation=!Transient"));
+
+        Assert.assertArrayEquals(new int[] { 0, 1, 3, 4 }, filter.select(MODEL));
+    }
+
+    @Test
+    public void selectIncludedNames() throws Exception {
+        FieldFilter filter = FieldFilter.compile(Arrays.asList("name=*At", "name=?d"));
+
+        Assert.assertArrayEquals(new int[] { 0, 4 }, filter.select(MODEL));
+    }
+
+    @Test
+    public void selectExcludedNames() throws Exception {
+        FieldFilter filter = FieldFilter.compile(Collections.singletonList("name=!c*"));
+
+        Assert.assertArrayEquals(new int[] { 0, 1, 3 }, filter.select(MODEL));
+    }
+
+    @Test
+    public void selectNamePatternLiteralCharacters() throws Exception {
+        BeanModel model = new BeanModel(new String[] { "a$b", "axb" }, new String[] { "getA$b()", "getAxb()" },
+                new String[] { "I", "I" }, new int[] { 0, 0 }, new String[][] { NO_ANNOTATIONS, NO_ANNOTATIONS },
+                new String[0]);
+        FieldFilter filter = FieldFilter.compile(Collections.singletonList("name=a$b"));
+
+        Assert.assertArrayEquals(new int[] { 0 }, filter.select(model));
+    }
+
+    @Test
+    public void selectCombinedFilters() throws Exception {
+        FieldFilter filter = FieldFilter.compile(Arrays.asList("modifiers=private,!transient", "annotation=!Id",
+                "name=n*", "order=alphabetical"));
+
+        Assert.assertArrayEquals(new int[] { 3 }, filter.select(MODEL));
+    }
+
+    @Test
+    public void findAnnotation() throws Exception {
+        String[] annotations = new String[] { "Column", "javax.annotation.Nullable" };
+
+        Assert.assertEquals("Column", FieldFilter.findAnnotation(annotations, "javax.persistence.Column"));
+        Assert.assertEquals("javax.annotation.Nullable", FieldFilter.findAnnotation(annotations, "Nullable"));
+        Assert.assertNull(FieldFilter.findAnnotation(annotations, "other.Nullable"));
+        Assert.assertNull(FieldFilter.findAnnotation(annotations, "Id"));
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.resolver;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.starchartlabs.eclipse.template.dynamic.model.BeanModel;
+
+public class FieldOrderTest {
+
+    private static final String[] NO_ANNOTATIONS = new String[0];
+
+    // Declared as: list, name, count, values, total, alias, flag
+    private static final BeanModel MODEL = new BeanModel(
+            new String[] { "list", "name", "count", "values", "total", "alias", "flag" },
+            new String[] { "getList()", "getName()", "getCount()", "getValues()", "getTotal()", "getAlias()",
+                    "isFlag()" },
+            new String[] { "QList<QString;>;", "QString;", "I", "[I", "QInteger;", "Ljava.lang.String;", "Z" },
+            new int[7],
+            new String[][] { NO_ANNOTATIONS, { "Order" }, NO_ANNOTATIONS, NO_ANNOTATIONS, { "Order" },
+                    NO_ANNOTATIONS, NO_ANNOTATIONS },
+            new String[0]);
+
+    @Test(expected = NullPointerException.class)
+    public void isOrderOptionNull() throws Exception {
+        FieldOrder.isOrderOption(null);
+    }
+
+    @Test
+    public void isOrderOption() throws Exception {
+        Assert.assertTrue(FieldOrder.isOrderOption("order=declaration"));
+        Assert.assertTrue(FieldOrder.isOrderOption("order=alphabetical"));
+        Assert.assertTrue(FieldOrder.isOrderOption("order= cost "));
+        Assert.assertTrue(FieldOrder.isOrderOption("order=annotation:Order"));
+    }
+
+    @Test
+    public void isOrderOptionMalformed() throws Exception {
+        Assert.assertFalse(FieldOrder.isOrderOption("order="));
+        Assert.assertFalse(FieldOrder.isOrderOption("order=reverse"));
+        Assert.assertFalse(FieldOrder.isOrderOption("order=annotation:"));
+        Assert.assertFalse(FieldOrder.isOrderOption("name=order"));
+    }
+
+    @Test
+    public void sortDeclaration() throws Exception {
+        FieldOrder order = FieldOrder.compile(Collections.singletonList("inherited"));
+
+        Assert.assertArrayEquals(new int[] { 0, 2, 5 }, order.sort(MODEL, new int[] { 0, 2, 5 }));
+    }
+
+    @Test
+    public void sortAlphabetical() throws Exception {
+        FieldOrder order = FieldOrder.compile(Collections.singletonList("order=alphabetical"));
+
+        Assert.assertArrayEquals(new int[] { 5, 2, 6, 0, 1, 4, 3 },
+                order.sort(MODEL, new int[] { 0, 1, 2, 3, 4, 5, 6 }));
+    }
+
+    @Test
+    public void sortAlphabeticalSelection() throws Exception {
+        FieldOrder order = FieldOrder.compile(Collections.singletonList("order=alphabetical"));
+
+        Assert.assertArrayEquals(new int[] { 2, 1, 3 }, order.sort(MODEL, new int[] { 1, 2, 3 }));
+    }
+
+    @Test
+    public void sortCost() throws Exception {
+        FieldOrder order = FieldOrder.compile(Collections.singletonList("order=cost"));
+
+        // Primitives, boxed, strings, other references, arrays, collections - ties in declaration order
+        Assert.assertArrayEquals(new int[] { 2, 6, 4, 1, 5, 3, 0 },
+                order.sort(MODEL, new int[] { 0, 1, 2, 3, 4, 5, 6 }));
+    }
+
+    @Test
+    public void sortLastOrderApplies() throws Exception {
+        FieldOrder order = FieldOrder.compile(Arrays.asList("order=cost", "modifiers=private", "order=alphabetical"));
+
+        Assert.assertArrayEquals(new int[] { 5, 2, 6 }, order.sort(MODEL, new int[] { 2, 5, 6 }));
+    }
+
+    @Test
+    public void sortAnnotationWithoutSource() throws Exception {
+        FieldOrder order = FieldOrder.compile(Collections.singletonList("order=annotation:Order"));
+
+        // Values cannot be read without a source type, so every field ranks equally and keeps declaration order
+        Assert.assertArrayEquals(new int[] { 0, 1, 4, 6 }, order.sort(MODEL, new int[] { 0, 1, 4, 6 }));
+    }
+
+    @Test
+    public void sortEmpty() throws Exception {
+        FieldOrder order = FieldOrder.compile(Collections.singletonList("order=cost"));
+
+        Assert.assertArrayEquals(new int[0], order.sort(MODEL, new int[0]));
+    }
+
+    @Test
+    public void sortStableAcrossRuns() throws Exception {
+        String[] names = new String[37];
+        String[] getters = new String[names.length];
+        String[] types = new String[names.length];
+        String[][] annotations = new String[names.length][];
+        int[] fields = new int[names.length];
+
+        for (int i = 0; i < names.length; i++) {
+            names[i] = "field" + i;
+            getters[i] = "getField" + i + "()";
+            types[i] = (i % 3 == 0 ? "I" : (i % 3 == 1 ? "QObject;" : "[J"));
+            annotations[i] = NO_ANNOTATIONS;
+            fields[i] = i;
+        }
+
+        BeanModel model = new BeanModel(names, getters, types, new int[names.length], annotations, new String[0]);
+        int[] sorted = FieldOrder.compile(Collections.singletonList("order=cost")).sort(model, fields);
+
+        for (int i = 1; i < sorted.length; i++) {
+            int previous = sorted[i - 1] % 3;
+            int current = sorted[i] % 3;
+
+            // Categories in cost order (0, 1, 2 by construction), and declaration order within each category
+            Assert.assertTrue(previous < current || (previous == current && sorted[i - 1] < sorted[i]));
+        }
+    }
+
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Dictionary;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+import javax.management.JMException;
+
+import org.eclipse.core.runtime.IConfigurationElement;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.Plugin;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences.IPreferenceChangeListener;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.osgi.service.debug.DebugOptions;
+import org.eclipse.osgi.service.debug.DebugOptionsListener;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.ServiceRegistration;
+import org.starchartlabs.eclipse.template.dynamic.metrics.ResolverStatistics;
+import org.starchartlabs.eclipse.template.dynamic.metrics.ResolverTrace;
+import org.starchartlabs.eclipse.template.dynamic.model.AccessorNaming;
+import org.starchartlabs.eclipse.template.dynamic.model.BeanIntrospector;
+import org.starchartlabs.eclipse.template.dynamic.model.BeanModelCache;
+import org.starchartlabs.eclipse.template.dynamic.model.BeanModelIndex;
+import org.starchartlabs.eclipse.template.dynamic.model.BinarySnapshotCache;
+import org.starchartlabs.eclipse.template.dynamic.model.NamingStrategy;
+import org.starchartlabs.eclipse.template.dynamic.model.ParallelScanner;
+import org.starchartlabs.eclipse.template.dynamic.model.TypeHierarchyCache;
+import org.starchartlabs.eclipse.template.dynamic.model.TypeSignatureCache;
+import org.starchartlabs.eclipse.template.dynamic.preferences.PreferenceConstants;
+
+/**
+ * Bundle activator which manages state shared across all template variable resolutions
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+public class DynamicTemplatesPlugin extends Plugin {
+
+    public static final String PLUGIN_ID = "org.starchartlabs.eclipse.template.dynamic";
+
+    private static final String BEAN_MODEL_INDEX_FILE = "beanModels.idx";
+
+    private static final String NAMING_STRATEGIES_EXTENSION_POINT = PLUGIN_ID + ".namingStrategies";
+
+    private static final Collection<String> NAMING_PREFERENCES = Arrays.asList(PreferenceConstants.ACCESSOR_PREFIXES,
+            PreferenceConstants.BOOLEAN_ACCESSOR_PREFIXES, PreferenceConstants.FLUENT_ACCESSORS,
+            PreferenceConstants.FIELD_PREFIXES);
+
+    private static DynamicTemplatesPlugin plugin;
+
+    private final ResolverStatistics statistics = new ResolverStatistics();
+
+    private final ResolverTrace trace = new ResolverTrace();
+
+    private final BeanModelIndex beanModelIndex = new BeanModelIndex();
+
+    private final BeanModelCache beanModelCache = new BeanModelCache(beanModelIndex, statistics);
+
+    private final TypeHierarchyCache typeHierarchyCache = new TypeHierarchyCache();
+
+    private final BinarySnapshotCache binarySnapshotCache = new BinarySnapshotCache(statistics);
+
+    private final TypeSignatureCache typeSignatureCache = new TypeSignatureCache();
+
+    // Bounded to half the available processors, so that scanning very large types does not starve the workbench
+    private final ForkJoinPool scanPool = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+
+    private final ParallelScanner scanner = new ParallelScanner(scanPool,
+            () -> PreferenceConstants.getInt(PreferenceConstants.PARALLEL_SCAN_THRESHOLD,
+                    PreferenceConstants.DEFAULT_PARALLEL_SCAN_THRESHOLD));
+
+    private final BeanIntrospector beanIntrospector = new BeanIntrospector(typeHierarchyCache, binarySnapshotCache,
+            scanner, this::getAccessorNaming, statistics);
+
+    private final IPreferenceChangeListener namingListener = event -> {
+        if (NAMING_PREFERENCES.contains(event.getKey())) {
+            updateAccessorNaming();
+        }
+    };
+
+    private volatile AccessorNaming accessorNaming = AccessorNaming.DEFAULT;
+
+    private ServiceRegistration<DebugOptionsListener> traceRegistration;
+
+    @Override
+    public void start(BundleContext context) throws Exception {
+        super.start(context);
+        plugin = this;
+
+        Dictionary<String, String> traceProperties = new Hashtable<>();
+        traceProperties.put(DebugOptions.LISTENER_SYMBOLICNAME, PLUGIN_ID);
+        traceRegistration = context.registerService(DebugOptionsListener.class, trace, traceProperties);
+
+        accessorNaming = readAccessorNaming();
+        InstanceScope.INSTANCE.getNode(PLUGIN_ID).addPreferenceChangeListener(namingListener);
+
+        try {
+            beanModelIndex.load(getBeanModelIndexFile(), accessorNaming.getFingerprint());
+        } catch (IOException e) {
+            getLog().log(new Status(IStatus.WARNING, PLUGIN_ID, "Unable to load bean model index", e));
+        }
+
+        JavaCore.addElementChangedListener(beanModelCache);
+
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(statistics, ResolverStatistics.getObjectName());
+        } catch (JMException e) {
+            getLog().log(new Status(IStatus.WARNING, PLUGIN_ID, "Unable to register resolver statistics MBean", e));
+        }
+    }
+
+    @Override
+    public void stop(BundleContext context) throws Exception {
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(ResolverStatistics.getObjectName());
+        } catch (JMException e) {
+            getLog().log(new Status(IStatus.WARNING, PLUGIN_ID, "Unable to unregister resolver statistics MBean", e));
+        }
+
+        traceRegistration.unregister();
+        JavaCore.removeElementChangedListener(beanModelCache);
+        InstanceScope.INSTANCE.getNode(PLUGIN_ID).removePreferenceChangeListener(namingListener);
+
+        try {
+            beanModelIndex.save(getBeanModelIndexFile(), accessorNaming.getFingerprint());
+        } catch (IOException e) {
+            getLog().log(new Status(IStatus.WARNING, PLUGIN_ID, "Unable to save bean model index", e));
+        }
+
+        beanModelCache.clear();
+        typeHierarchyCache.clear();
+        binarySnapshotCache.clear();
+        typeSignatureCache.clear();
+        scanPool.shutdown();
+
+        plugin = null;
+        super.stop(context);
+    }
+
+    /**
+     * @return Cache of bean field information resolved for Java types, kept up to date with changes to the Java model
+     */
+    public BeanModelCache getBeanModelCache() {
+        return beanModelCache;
+    }
+
+    /**
+     * @return Introspector which reads bean field information for Java types, sharing this plug-in's type hierarchies
+     */
+    public BeanIntrospector getBeanIntrospector() {
+        return beanIntrospector;
+    }
+
+    /**
+     * @return Cache of the readable forms of field type signatures, shared between resolutions
+     */
+    public TypeSignatureCache getTypeSignatureCache() {
+        return typeSignatureCache;
+    }
+
+    /**
+     * @return The accessor naming strategies currently configured via preferences and contributed via extensions
+     */
+    public AccessorNaming getAccessorNaming() {
+        return accessorNaming;
+    }
+
+    /**
+     * @return Statistics about template variable resolution, also exposed as a JMX MBean
+     */
+    public ResolverStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * @return Debug tracing of template variable resolution
+     */
+    public ResolverTrace getTrace() {
+        return trace;
+    }
+
+    private synchronized void updateAccessorNaming() {
+        AccessorNaming updated = readAccessorNaming();
+
+        if (!updated.equals(accessorNaming)) {
+            accessorNaming = updated;
+
+            // Models read previously matched fields to accessors using the prior strategies
+            beanModelCache.clear();
+        }
+    }
+
+    /**
+     * Compiles the configured accessor naming strategies. Prefixed accessors from preferences take precedence over
+     * contributed strategies, with fluent accessors enabled via preferences considered last
+     *
+     * @return The compiled accessor naming strategies
+     */
+    private AccessorNaming readAccessorNaming() {
+        List<NamingStrategy> strategies = new ArrayList<>();
+
+        for (String prefix : PreferenceConstants.getList(PreferenceConstants.ACCESSOR_PREFIXES,
+                PreferenceConstants.DEFAULT_ACCESSOR_PREFIXES)) {
+            strategies.add(NamingStrategy.accessorPrefix(prefix));
+        }
+
+        for (String prefix : PreferenceConstants.getList(PreferenceConstants.BOOLEAN_ACCESSOR_PREFIXES,
+                PreferenceConstants.DEFAULT_BOOLEAN_ACCESSOR_PREFIXES)) {
+            strategies.add(NamingStrategy.booleanAccessorPrefix(prefix));
+        }
+
+        for (IConfigurationElement element : Platform.getExtensionRegistry()
+                .getConfigurationElementsFor(NAMING_STRATEGIES_EXTENSION_POINT)) {
+            try {
+                strategies.add(readNamingStrategy(element));
+            } catch (IllegalArgumentException e) {
+                getLog().log(new Status(IStatus.WARNING, PLUGIN_ID, "Ignoring invalid naming strategy contributed by "
+                        + element.getContributor().getName(), e));
+            }
+        }
+
+        if (PreferenceConstants.getBoolean(PreferenceConstants.FLUENT_ACCESSORS, false)) {
+            strategies.add(NamingStrategy.fluentAccessor());
+        }
+
+        for (String prefix : PreferenceConstants.getList(PreferenceConstants.FIELD_PREFIXES, "")) {
+            strategies.add(NamingStrategy.fieldPrefix(prefix));
+        }
+
+        return AccessorNaming.compile(strategies);
+    }
+
+    /**
+     * @param element
+     *            A contribution to the naming strategies extension point
+     * @return The naming strategy described by the contribution
+     * @throws IllegalArgumentException
+     *             If the contribution is not a recognized naming strategy, or is missing its prefix
+     */
+    private static NamingStrategy readNamingStrategy(IConfigurationElement element) {
+        String prefix = Objects.toString(element.getAttribute("prefix"), "");
+        NamingStrategy result = null;
+
+        switch (element.getName()) {
+        case "accessorPrefix":
+            result = (Boolean.parseBoolean(element.getAttribute("booleanOnly"))
+                    ? NamingStrategy.booleanAccessorPrefix(prefix)
+                    : NamingStrategy.accessorPrefix(prefix));
+            break;
+        case "fluentAccessor":
+            result = NamingStrategy.fluentAccessor();
+            break;
+        case "fieldPrefix":
+            result = NamingStrategy.fieldPrefix(prefix);
+            break;
+        default:
+            throw new IllegalArgumentException("Unrecognized naming strategy element: " + element.getName());
+        }
+
+        return result;
+    }
+
+    private Path getBeanModelIndexFile() {
+        return getStateLocation().append(BEAN_MODEL_INDEX_FILE).toFile().toPath();
+    }
+
+    /**
+     * @return The shared plug-in instance
+     */
+    public static DynamicTemplatesPlugin getDefault() {
+        return plugin;
+    }
+
+}
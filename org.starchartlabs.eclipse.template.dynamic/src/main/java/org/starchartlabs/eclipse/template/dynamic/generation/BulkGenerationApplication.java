@@ -0,0 +1,347 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.generation;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.equinox.app.IApplication;
+import org.eclipse.equinox.app.IApplicationContext;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jface.text.templates.TemplateException;
+import org.eclipse.text.edits.InsertEdit;
+import org.eclipse.text.edits.MultiTextEdit;
+import org.starchartlabs.eclipse.template.dynamic.DynamicTemplatesPlugin;
+import org.starchartlabs.eclipse.template.dynamic.metrics.ResolverStatistics;
+
+/**
+ * Headless application which renders a template against every class, enum, and record of the matching compilation
+ * units in a workspace, including member types, and inserts the result at the end of each type's body. Interfaces and
+ * annotation types are skipped, as they have no bean fields, though classes declared within them are processed. Local
+ * and anonymous types are not processed
+ *
+ * <p>
+ * The workspace is selected with the standard "-data" argument. Application arguments are:
+ * <ul>
+ * <li>-template &lt;file&gt; - file containing the template to render, in Eclipse editor template syntax</li>
+ * <li>-packages &lt;pattern[,pattern...]&gt; - package name patterns to process, see {@link PackageFilter}</li>
+ * </ul>
+ *
+ * <p>
+ * Compilation units are processed in parallel, one per task, on a fork-join pool sized to the available processors.
+ * All insertions into a unit are applied as a single batched edit, with one working copy commit per unit
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+public class BulkGenerationApplication implements IApplication {
+
+    private static final Integer EXIT_ERROR = Integer.valueOf(1);
+
+    private static final String TEMPLATE_ARGUMENT = "-template";
+
+    private static final String PACKAGES_ARGUMENT = "-packages";
+
+    private static final String USAGE = "Usage: -data <workspace> " + TEMPLATE_ARGUMENT + " <file> "
+            + PACKAGES_ARGUMENT + " <pattern[,pattern...]>" + System.lineSeparator()
+            + "Renders the template into every class, enum, and record of the matching packages, including member"
+            + " types. Interfaces, annotation types, and local and anonymous types are skipped";
+
+    @Override
+    public Object start(IApplicationContext context) throws Exception {
+        String[] arguments = (String[]) context.getArguments().get(IApplicationContext.APPLICATION_ARGS);
+        String templateFile = getArgument(arguments, TEMPLATE_ARGUMENT);
+        String packages = getArgument(arguments, PACKAGES_ARGUMENT);
+        DynamicTemplatesPlugin plugin = DynamicTemplatesPlugin.getDefault();
+        Object result = EXIT_ERROR;
+
+        context.applicationRunning();
+
+        if (plugin == null) {
+            System.err.println("Plug-in " + DynamicTemplatesPlugin.PLUGIN_ID + " is not active");
+        } else if (templateFile == null || packages == null) {
+            System.err.println(USAGE);
+        } else {
+            try {
+                String source = new String(Files.readAllBytes(Paths.get(templateFile)), StandardCharsets.UTF_8);
+
+                GenerationTemplate template = GenerationTemplate.compile(source);
+                PackageFilter filter = PackageFilter.create(Arrays.asList(packages.split(",")));
+
+                result = (generate(plugin, template, findCompilationUnits(filter)) ? EXIT_OK : EXIT_ERROR);
+
+                ResourcesPlugin.getWorkspace().save(true, new NullProgressMonitor());
+            } catch (IOException e) {
+                System.err.println("Unable to read template file " + templateFile + ": " + e.getMessage());
+            } catch (TemplateException e) {
+                System.err.println("Invalid template in " + templateFile + ": " + e.getMessage());
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public void stop() {
+        // No action required - generation runs to completion once started
+    }
+
+    /**
+     * Renders the template into every class, enum, and record of the provided compilation units, and prints throughput
+     * statistics once complete
+     *
+     * @param plugin
+     *            The active plug-in instance, providing resolution statistics
+     * @param template
+     *            The template to render
+     * @param units
+     *            The compilation units to render the template into
+     * @return True if every compilation unit was processed successfully, false otherwise
+     * @throws InterruptedException
+     *             If interrupted while waiting for generation to complete
+     */
+    private boolean generate(DynamicTemplatesPlugin plugin, GenerationTemplate template, List<ICompilationUnit> units)
+            throws InterruptedException {
+        ResolverStatistics statistics = plugin.getStatistics();
+        long fieldsBefore = statistics.getFieldsProcessed();
+        long startNanos = System.nanoTime();
+
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        List<Callable<Integer>> tasks = new ArrayList<>(units.size());
+
+        for (ICompilationUnit unit : units) {
+            tasks.add(() -> generate(template, unit));
+        }
+
+        int types = 0;
+        int failures = 0;
+
+        try {
+            for (Future<Integer> future : pool.invokeAll(tasks)) {
+                try {
+                    types += future.get();
+                } catch (ExecutionException e) {
+                    failures++;
+                    log(plugin, e.getCause());
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long fields = statistics.getFieldsProcessed() - fieldsBefore;
+        double seconds = Math.max(elapsedNanos, 1) / (double) TimeUnit.SECONDS.toNanos(1);
+
+        System.out.println(String.format(
+                "Processed %d compilation units (%d failed), %d types, %d bean fields in %d ms", units.size(), failures,
+                types, fields, TimeUnit.NANOSECONDS.toMillis(elapsedNanos)));
+        System.out.println(String.format("Throughput: %.1f compilation units/s, %.1f types/s, %.1f bean fields/s",
+                units.size() / seconds, types / seconds, fields / seconds));
+        System.out.println(String.format("Bean model cache: %d hits, %d misses", statistics.getCacheHits(),
+                statistics.getCacheMisses()));
+
+        return failures == 0;
+    }
+
+    /**
+     * Renders the template into every class, enum, and record of a compilation unit, including member types, committing
+     * all insertions at once
+     *
+     * @param template
+     *            The template to render
+     * @param unit
+     *            The compilation unit to render the template into
+     * @return The number of types the template was rendered into
+     * @throws JavaModelException
+     *             If there is an error reading or modifying Java model information
+     */
+    private int generate(GenerationTemplate template, ICompilationUnit unit) throws JavaModelException {
+        Objects.requireNonNull(template);
+        Objects.requireNonNull(unit);
+
+        String source = unit.getSource();
+        String lineSeparator = unit.findRecommendedLineSeparator();
+        List<?> declarations = parse(unit).types();
+        MultiTextEdit edit = new MultiTextEdit();
+        int result = 0;
+
+        for (IType type : unit.getTypes()) {
+            result += generate(template, type, findDeclaration(declarations, type), source, lineSeparator, edit);
+        }
+
+        if (edit.hasChildren()) {
+            ICompilationUnit workingCopy = unit.getWorkingCopy(new NullProgressMonitor());
+
+            try {
+                workingCopy.applyTextEdit(edit, new NullProgressMonitor());
+                workingCopy.commitWorkingCopy(false, new NullProgressMonitor());
+            } finally {
+                workingCopy.discardWorkingCopy();
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Renders the template into a type and its member types, adding insertions to the provided edit
+     *
+     * @param template
+     *            The template to render
+     * @param type
+     *            The type to render the template into
+     * @param declaration
+     *            The syntax tree declaration of the type, or null if it could not be found
+     * @param source
+     *            The source of the compilation unit containing the type
+     * @param lineSeparator
+     *            The line separator to use between rendered lines
+     * @param edit
+     *            The edit to add insertions to
+     * @return The number of types the template was rendered into
+     * @throws JavaModelException
+     *             If there is an error reading Java model information
+     */
+    private int generate(GenerationTemplate template, IType type, AbstractTypeDeclaration declaration, String source,
+            String lineSeparator, MultiTextEdit edit) throws JavaModelException {
+        int result = 0;
+
+        if (declaration != null) {
+            // The declaration's extent ends at the closing brace of its body, unless the source is incomplete
+            int closingBrace = declaration.getStartPosition() + declaration.getLength() - 1;
+
+            // Interfaces and annotation types have no instance fields, so would only receive an empty rendering
+            if (!type.isInterface() && !type.isAnnotation() && closingBrace >= 0 && closingBrace < source.length()
+                    && source.charAt(closingBrace) == '}') {
+                edit.addChild(new InsertEdit(closingBrace, template.render(type, lineSeparator)));
+                result++;
+            }
+
+            for (IType memberType : type.getTypes()) {
+                result += generate(template, memberType, findDeclaration(declaration.bodyDeclarations(), memberType),
+                        source, lineSeparator, edit);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * @param unit
+     *            The compilation unit to parse
+     * @return The syntax tree of the compilation unit, with method bodies omitted
+     */
+    private static CompilationUnit parse(ICompilationUnit unit) {
+        // The latest level available in the minimum supported JDT version which includes records
+        ASTParser parser = ASTParser.newParser(AST.JLS16);
+        parser.setKind(ASTParser.K_COMPILATION_UNIT);
+        parser.setSource(unit);
+        parser.setResolveBindings(false);
+        // Only the extents of type declarations are needed, which do not depend on method bodies
+        parser.setFocalPosition(0);
+
+        return (CompilationUnit) parser.createAST(null);
+    }
+
+    /**
+     * @param declarations
+     *            The top-level type declarations of a syntax tree, or the body declarations of a type
+     * @param type
+     *            The type to find the declaration of
+     * @return The declaration of the type with the same name, or null if there is none
+     */
+    private static AbstractTypeDeclaration findDeclaration(List<?> declarations, IType type) {
+        AbstractTypeDeclaration result = null;
+
+        for (int i = 0; i < declarations.size() && result == null; i++) {
+            Object declaration = declarations.get(i);
+
+            // Type names are unique among the top-level types of a unit, and among the member types of a type
+            if (declaration instanceof AbstractTypeDeclaration
+                    && ((AbstractTypeDeclaration) declaration).getName().getIdentifier()
+                    .equals(type.getElementName())) {
+                result = (AbstractTypeDeclaration) declaration;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * @param filter
+     *            Filter selecting the packages to process
+     * @return All compilation units in source packages of open Java projects matched by the filter
+     * @throws JavaModelException
+     *             If there is an error reading Java model information
+     */
+    private List<ICompilationUnit> findCompilationUnits(PackageFilter filter) throws JavaModelException {
+        List<ICompilationUnit> result = new ArrayList<>();
+
+        for (IJavaProject project : JavaCore.create(ResourcesPlugin.getWorkspace().getRoot()).getJavaProjects()) {
+            for (IPackageFragment packageFragment : project.getPackageFragments()) {
+                if (packageFragment.getKind() == IPackageFragmentRoot.K_SOURCE
+                        && filter.matches(packageFragment.getElementName())) {
+                    result.addAll(Arrays.asList(packageFragment.getCompilationUnits()));
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private static String getArgument(String[] arguments, String name) {
+        String result = null;
+
+        for (int i = 0; arguments != null && i < arguments.length - 1; i++) {
+            if (name.equals(arguments[i])) {
+                result = arguments[i + 1];
+            }
+        }
+
+        return result;
+    }
+
+    private static void log(DynamicTemplatesPlugin plugin, Throwable error) {
+        IStatus status = (error instanceof CoreException ? ((CoreException) error).getStatus()
+                : new Status(IStatus.ERROR, DynamicTemplatesPlugin.PLUGIN_ID, "Bulk generation failed", error));
+
+        System.err.println(status.getMessage());
+        plugin.getLog().log(status);
+    }
+
+}
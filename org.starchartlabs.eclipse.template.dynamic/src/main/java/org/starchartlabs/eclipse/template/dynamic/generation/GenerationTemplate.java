@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.generation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jface.text.templates.TemplateBuffer;
+import org.eclipse.jface.text.templates.TemplateException;
+import org.eclipse.jface.text.templates.TemplateTranslator;
+import org.eclipse.jface.text.templates.TemplateVariable;
+import org.starchartlabs.eclipse.template.dynamic.resolver.EnclosedBeanFieldsResolver;
+
+/**
+ * A code template which is parsed once, and then rendered against many types without an editor
+ *
+ * <p>
+ * Templates use the same syntax as Eclipse Java editor templates. "enclosed_bean_fields" variables are resolved against
+ * the type being rendered, "${cursor}" is removed, and "${dollar}" becomes a literal "$". All other variables are
+ * rendered as their names, as they depend on an editor context which is not available
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+final class GenerationTemplate {
+
+    private static final String BEAN_FIELDS_TYPE = "enclosed_bean_fields";
+
+    private static final String CURSOR_TYPE = "cursor";
+
+    private static final String DOLLAR_TYPE = "dollar";
+
+    private final String pattern;
+
+    private final TemplateVariable[] variables;
+
+    // Every variable occurrence in the pattern, ordered by offset, as {offset, length, variable index}
+    private final int[][] occurrences;
+
+    private final EnclosedBeanFieldsResolver resolver;
+
+    private GenerationTemplate(String pattern, TemplateVariable[] variables, int[][] occurrences) {
+        this.pattern = Objects.requireNonNull(pattern);
+        this.variables = Objects.requireNonNull(variables);
+        this.occurrences = Objects.requireNonNull(occurrences);
+
+        resolver = new EnclosedBeanFieldsResolver();
+    }
+
+    /**
+     * @param source
+     *            The template, in Eclipse editor template syntax
+     * @return A template which may be rendered against many types
+     * @throws TemplateException
+     *             If the template is not valid template syntax
+     */
+    public static GenerationTemplate compile(String source) throws TemplateException {
+        Objects.requireNonNull(source);
+
+        TemplateBuffer buffer = new TemplateTranslator().translate(source);
+        TemplateVariable[] variables = buffer.getVariables();
+        List<int[]> occurrences = new ArrayList<>();
+
+        for (int i = 0; i < variables.length; i++) {
+            for (int offset : variables[i].getOffsets()) {
+                occurrences.add(new int[] { offset, variables[i].getLength(), i });
+            }
+        }
+
+        occurrences.sort(Comparator.comparingInt(occurrence -> occurrence[0]));
+
+        return new GenerationTemplate(buffer.getString(), variables, occurrences.toArray(new int[0][]));
+    }
+
+    /**
+     * Renders the template into a single buffer, sized exactly before any content is written so that memory use
+     * remains proportional to the output even for types with very many bean fields
+     *
+     * @param type
+     *            The type to render the template against
+     * @param lineSeparator
+     *            Line separator to place before and after the rendered template
+     * @return The rendered template, on its own line(s)
+     * @throws JavaModelException
+     *             If there is an error reading Java model information
+     */
+    public String render(IType type, String lineSeparator) throws JavaModelException {
+        Objects.requireNonNull(type);
+        Objects.requireNonNull(lineSeparator);
+
+        String[] values = new String[variables.length];
+        int length = pattern.length() + 2 * lineSeparator.length();
+
+        for (int i = 0; i < variables.length; i++) {
+            values[i] = getValue(variables[i], type);
+        }
+
+        for (int[] occurrence : occurrences) {
+            length += values[occurrence[2]].length() - occurrence[1];
+        }
+
+        StringBuilder result = new StringBuilder(length);
+        int literalStart = 0;
+
+        result.append(lineSeparator);
+
+        for (int[] occurrence : occurrences) {
+            result.append(pattern, literalStart, occurrence[0]);
+            result.append(values[occurrence[2]]);
+
+            literalStart = occurrence[0] + occurrence[1];
+        }
+
+        result.append(pattern, literalStart, pattern.length());
+        result.append(lineSeparator);
+
+        return result.toString();
+    }
+
+    private String getValue(TemplateVariable variable, IType type) throws JavaModelException {
+        String result = null;
+
+        if (BEAN_FIELDS_TYPE.equals(variable.getType())) {
+            result = resolver.resolveType(type, variable.getVariableType().getParams());
+        } else if (CURSOR_TYPE.equals(variable.getType())) {
+            result = "";
+        } else if (DOLLAR_TYPE.equals(variable.getType())) {
+            result = "$";
+        }
+
+        return (result != null ? result : variable.getDefaultValue());
+    }
+
+}
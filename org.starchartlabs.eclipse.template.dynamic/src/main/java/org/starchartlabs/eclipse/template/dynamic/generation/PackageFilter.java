@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.generation;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Matches Java package names against a set of patterns. Within a pattern, "*" matches any part of a single package
+ * name segment, and "**" matches any number of segments, including none
+ *
+ * <p>
+ * For example, "com.example.*" matches "com.example.model" but not "com.example.model.dto", while "com.example.**"
+ * matches both
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+final class PackageFilter {
+
+    private final Pattern pattern;
+
+    private PackageFilter(Pattern pattern) {
+        this.pattern = Objects.requireNonNull(pattern);
+    }
+
+    /**
+     * @param patterns
+     *            One or more package name patterns
+     * @return A filter matching any package name matched by at least one of the patterns
+     */
+    public static PackageFilter create(Collection<String> patterns) {
+        Objects.requireNonNull(patterns);
+
+        StringBuilder regex = new StringBuilder();
+
+        for (String packagePattern : patterns) {
+            if (regex.length() > 0) {
+                regex.append('|');
+            }
+
+            regex.append(toRegex(packagePattern.trim()));
+        }
+
+        return new PackageFilter(Pattern.compile(regex.toString()));
+    }
+
+    /**
+     * @param packageName
+     *            The fully-qualified name of a package
+     * @return True if the package is matched by any of the filter's patterns
+     */
+    public boolean matches(String packageName) {
+        return pattern.matcher(packageName).matches();
+    }
+
+    private static String toRegex(String packagePattern) {
+        StringBuilder result = new StringBuilder("(?:");
+        int literalStart = 0;
+        int index = packagePattern.indexOf('*');
+
+        while (index >= 0) {
+            boolean anySegments = packagePattern.startsWith("**", index);
+
+            // ".**" also matches no segments at all, so that "com.example.**" matches "com.example" itself
+            int literalEnd = (anySegments && index > literalStart && packagePattern.charAt(index - 1) == '.' ? index - 1
+                    : index);
+
+            if (literalEnd > literalStart) {
+                result.append(Pattern.quote(packagePattern.substring(literalStart, literalEnd)));
+            }
+
+            if (anySegments) {
+                result.append(literalEnd < index ? "(?:\\..*)?" : ".*");
+                literalStart = index + 2;
+            } else {
+                result.append("[^.]*");
+                literalStart = index + 1;
+            }
+
+            index = packagePattern.indexOf('*', literalStart);
+        }
+
+        if (literalStart < packagePattern.length()) {
+            result.append(Pattern.quote(packagePattern.substring(literalStart)));
+        }
+
+        return result.append(')').toString();
+    }
+
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+/**
+ * Thread-safe record of statistics about template variable resolution, registered as a JMX MBean by the plug-in
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+public class ResolverStatistics implements ResolverStatisticsMBean {
+
+    public static final String OBJECT_NAME = "org.starchartlabs.eclipse.template.dynamic:type=ResolverStatistics";
+
+    private static final long[] LATENCY_BOUNDS_MICROS = { 100, 500, 1_000, 5_000, 10_000, 50_000, 100_000, 500_000,
+            1_000_000, Long.MAX_VALUE };
+
+    private final LongAdder resolutionCount = new LongAdder();
+
+    private final LongAdder totalLatencyNanos = new LongAdder();
+
+    private final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0);
+
+    private final AtomicLongArray latencyHistogram = new AtomicLongArray(LATENCY_BOUNDS_MICROS.length);
+
+    private final LongAdder fieldsProcessed = new LongAdder();
+
+    private final LongAdder javaModelCalls = new LongAdder();
+
+    private final LongAdder contextHits = new LongAdder();
+
+    private final LongAdder cacheHits = new LongAdder();
+
+    private final LongAdder cacheMisses = new LongAdder();
+
+    private final LongAdder indexHits = new LongAdder();
+
+    /**
+     * @return The name this MBean is registered under
+     */
+    public static ObjectName getObjectName() {
+        try {
+            return new ObjectName(OBJECT_NAME);
+        } catch (MalformedObjectNameException e) {
+            throw new IllegalStateException("Invalid MBean name: " + OBJECT_NAME, e);
+        }
+    }
+
+    /**
+     * Records the completion of a template variable resolution
+     *
+     * @param latencyNanos
+     *            The time taken to resolve the variable, in nanoseconds
+     * @param fieldCount
+     *            The number of bean fields rendered
+     */
+    public void recordResolution(long latencyNanos, int fieldCount) {
+        long latencyMicros = TimeUnit.NANOSECONDS.toMicros(latencyNanos);
+        int bucket = 0;
+
+        while (latencyMicros > LATENCY_BOUNDS_MICROS[bucket]) {
+            bucket++;
+        }
+
+        resolutionCount.increment();
+        totalLatencyNanos.add(latencyNanos);
+        maxLatencyNanos.accumulate(latencyNanos);
+        latencyHistogram.incrementAndGet(bucket);
+        fieldsProcessed.add(fieldCount);
+    }
+
+    /**
+     * @param count
+     *            The number of Java model calls made while reading a bean model
+     */
+    public void recordJavaModelCalls(int count) {
+        javaModelCalls.add(count);
+    }
+
+    /**
+     * Records that a resolution re-used the analysis of another variable in the same template
+     */
+    public void recordContextHit() {
+        contextHits.increment();
+    }
+
+    /**
+     * Records that a bean model was served from the plug-in's cache
+     */
+    public void recordCacheHit() {
+        cacheHits.increment();
+    }
+
+    /**
+     * Records that a bean model was not cached, and had to be read
+     */
+    public void recordCacheMiss() {
+        cacheMisses.increment();
+    }
+
+    /**
+     * Records that a bean model not in the plug-in's cache was served from the persistent index
+     */
+    public void recordIndexHit() {
+        indexHits.increment();
+    }
+
+    @Override
+    public long getResolutionCount() {
+        return resolutionCount.sum();
+    }
+
+    @Override
+    public double getAverageLatencyMillis() {
+        long count = resolutionCount.sum();
+
+        return (count > 0 ? toMillis(totalLatencyNanos.sum()) / count : 0);
+    }
+
+    @Override
+    public double getMaxLatencyMillis() {
+        return toMillis(maxLatencyNanos.get());
+    }
+
+    @Override
+    public long[] getLatencyHistogramBoundsMicros() {
+        return LATENCY_BOUNDS_MICROS.clone();
+    }
+
+    @Override
+    public long[] getLatencyHistogramCounts() {
+        long[] result = new long[latencyHistogram.length()];
+
+        for (int i = 0; i < result.length; i++) {
+            result[i] = latencyHistogram.get(i);
+        }
+
+        return result;
+    }
+
+    @Override
+    public long getFieldsProcessed() {
+        return fieldsProcessed.sum();
+    }
+
+    @Override
+    public long getJavaModelCalls() {
+        return javaModelCalls.sum();
+    }
+
+    @Override
+    public long getContextHits() {
+        return contextHits.sum();
+    }
+
+    @Override
+    public long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    @Override
+    public long getCacheMisses() {
+        return cacheMisses.sum();
+    }
+
+    @Override
+    public long getIndexHits() {
+        return indexHits.sum();
+    }
+
+    @Override
+    public double getCacheHitRatio() {
+        long hits = cacheHits.sum();
+        long total = hits + cacheMisses.sum();
+
+        return (total > 0 ? (double) hits / total : 0);
+    }
+
+    @Override
+    public void reset() {
+        resolutionCount.reset();
+        totalLatencyNanos.reset();
+        maxLatencyNanos.reset();
+        fieldsProcessed.reset();
+        javaModelCalls.reset();
+        contextHits.reset();
+        cacheHits.reset();
+        cacheMisses.reset();
+        indexHits.reset();
+
+        for (int i = 0; i < latencyHistogram.length(); i++) {
+            latencyHistogram.set(i, 0);
+        }
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+}
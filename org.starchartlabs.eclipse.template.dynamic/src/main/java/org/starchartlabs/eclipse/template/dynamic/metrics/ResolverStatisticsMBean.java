@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.metrics;
+
+/**
+ * Management interface exposing statistics about template variable resolution via JMX
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+public interface ResolverStatisticsMBean {
+
+    /**
+     * @return The number of template variables resolved
+     */
+    long getResolutionCount();
+
+    /**
+     * @return The mean time taken to resolve a template variable, in milliseconds
+     */
+    double getAverageLatencyMillis();
+
+    /**
+     * @return The longest time taken to resolve a template variable, in milliseconds
+     */
+    double getMaxLatencyMillis();
+
+    /**
+     * @return The inclusive upper bound of each latency histogram bucket, in microseconds. The final bucket has no
+     *         upper bound, and is reported as {@link Long#MAX_VALUE}
+     */
+    long[] getLatencyHistogramBoundsMicros();
+
+    /**
+     * @return The number of resolutions which fell into each latency histogram bucket
+     */
+    long[] getLatencyHistogramCounts();
+
+    /**
+     * @return The total number of bean fields rendered across all resolutions
+     */
+    long getFieldsProcessed();
+
+    /**
+     * @return The total number of Java model calls which read element information while reading bean fields, counted
+     *         as each call is made. Calls which only create or inspect element handles are not included
+     */
+    long getJavaModelCalls();
+
+    /**
+     * @return The number of resolutions which re-used the analysis of another variable in the same template
+     */
+    long getContextHits();
+
+    /**
+     * @return The number of bean models served from the plug-in's cache
+     */
+    long getCacheHits();
+
+    /**
+     * @return The number of bean models which had to be read because they were not cached
+     */
+    long getCacheMisses();
+
+    /**
+     * @return The number of cache misses served from the persistent bean model index, without reading the Java model
+     */
+    long getIndexHits();
+
+    /**
+     * @return The fraction of cache lookups which were served from the cache, or 0 if no lookups have occurred
+     */
+    double getCacheHitRatio();
+
+    /**
+     * Sets all statistics back to zero
+     */
+    void reset();
+
+}
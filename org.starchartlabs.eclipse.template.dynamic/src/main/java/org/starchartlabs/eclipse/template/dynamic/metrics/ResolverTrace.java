@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.metrics;
+
+import java.util.Objects;
+
+import org.eclipse.osgi.service.debug.DebugOptions;
+import org.eclipse.osgi.service.debug.DebugOptionsListener;
+import org.eclipse.osgi.service.debug.DebugTrace;
+import org.starchartlabs.eclipse.template.dynamic.DynamicTemplatesPlugin;
+
+/**
+ * Debug tracing of template variable resolution, controlled through the Eclipse tracing facility via the options
+ * defined in the plug-in's ".options" file
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+public class ResolverTrace implements DebugOptionsListener {
+
+    public static final String DEBUG_OPTION = "/debug";
+
+    public static final String RESOLVER_OPTION = "/debug/resolver";
+
+    private volatile DebugTrace trace;
+
+    private volatile boolean enabled;
+
+    public ResolverTrace() {
+        trace = null;
+        enabled = false;
+    }
+
+    @Override
+    public void optionsChanged(DebugOptions options) {
+        Objects.requireNonNull(options);
+
+        trace = options.newDebugTrace(DynamicTemplatesPlugin.PLUGIN_ID, ResolverTrace.class);
+        enabled = options.getBooleanOption(DynamicTemplatesPlugin.PLUGIN_ID + DEBUG_OPTION, false)
+                && options.getBooleanOption(DynamicTemplatesPlugin.PLUGIN_ID + RESOLVER_OPTION, false);
+    }
+
+    /**
+     * Checks if resolver tracing is enabled, which requires both the plug-in's master debug switch and the resolver
+     * option. Callers should check this before building trace messages, to avoid the cost when tracing is off
+     *
+     * @return True if resolver tracing is enabled, false otherwise
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Writes a message to the trace output, if resolver tracing is enabled
+     *
+     * @param message
+     *            The message to write
+     */
+    public void trace(String message) {
+        DebugTrace current = trace;
+
+        if (enabled && current != null) {
+            current.trace(RESOLVER_OPTION, message);
+        }
+    }
+
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A set of accessor naming strategies, compiled into the form used to index the methods of a type
+ *
+ * <p>
+ * Accessor strategies are ranked in the order they were provided - where a field matches accessors of several
+ * strategies, the accessor of the earliest strategy is used. Field prefixes are likewise tried in order, and only the
+ * first matching prefix is removed from a field name
+ *
+ * <p>
+ * Instances are immutable, and safe to share between threads
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+public final class AccessorNaming {
+
+    /**
+     * The conventional "bean" naming: "get(Fieldname)", and "is(Fieldname)" for booleans
+     */
+    public static final AccessorNaming DEFAULT = compile(Arrays.asList(NamingStrategy.accessorPrefix("get"),
+            NamingStrategy.booleanAccessorPrefix("is")));
+
+    private final List<NamingStrategy> strategies;
+
+    // Method name prefixes by rank - an empty prefix represents fluent accessors
+    private final String[] accessorPrefixes;
+
+    private final boolean[] booleanOnly;
+
+    private final String[] fieldPrefixes;
+
+    private AccessorNaming(List<NamingStrategy> strategies, String[] accessorPrefixes, boolean[] booleanOnly,
+            String[] fieldPrefixes) {
+        this.strategies = Objects.requireNonNull(strategies);
+        this.accessorPrefixes = Objects.requireNonNull(accessorPrefixes);
+        this.booleanOnly = Objects.requireNonNull(booleanOnly);
+        this.fieldPrefixes = Objects.requireNonNull(fieldPrefixes);
+    }
+
+    /**
+     * Compiles naming strategies for use in matching fields to accessors. Duplicate strategies are ignored
+     *
+     * @param strategies
+     *            The naming strategies to apply, in order of precedence
+     * @return The compiled naming strategies
+     */
+    public static AccessorNaming compile(Collection<NamingStrategy> strategies) {
+        Objects.requireNonNull(strategies);
+
+        List<NamingStrategy> distinct = new ArrayList<>(new LinkedHashSet<>(strategies));
+        List<String> accessorPrefixes = new ArrayList<>();
+        List<Boolean> booleanOnly = new ArrayList<>();
+        List<String> fieldPrefixes = new ArrayList<>();
+
+        for (NamingStrategy strategy : distinct) {
+            if (strategy.getKind() == NamingStrategy.Kind.FIELD_PREFIX) {
+                fieldPrefixes.add(strategy.getPrefix());
+            } else {
+                accessorPrefixes.add(strategy.getPrefix());
+                booleanOnly.add(strategy.getKind() == NamingStrategy.Kind.BOOLEAN_ACCESSOR_PREFIX);
+            }
+        }
+
+        boolean[] booleanOnlyArray = new boolean[booleanOnly.size()];
+
+        for (int i = 0; i < booleanOnlyArray.length; i++) {
+            booleanOnlyArray[i] = booleanOnly.get(i);
+        }
+
+        return new AccessorNaming(Collections.unmodifiableList(distinct),
+                accessorPrefixes.toArray(new String[accessorPrefixes.size()]), booleanOnlyArray,
+                fieldPrefixes.toArray(new String[fieldPrefixes.size()]));
+    }
+
+    /**
+     * @return The naming strategies applied, in order of precedence
+     */
+    public List<NamingStrategy> getStrategies() {
+        return strategies;
+    }
+
+    /**
+     * Builds an index of the methods which match any of the accessor naming strategies
+     *
+     * @param methodNames
+     *            The names of methods which take no parameters
+     * @return An index of the provided accessor methods
+     */
+    public GetterIndex createIndex(Collection<String> methodNames) {
+        return GetterIndex.create(methodNames, this);
+    }
+
+    /**
+     * @return A value identifying the naming strategies applied, which is stable across sessions
+     */
+    public int getFingerprint() {
+        int result = 1;
+
+        for (NamingStrategy strategy : strategies) {
+            result = 31 * result + strategy.getKind().name().hashCode();
+            result = 31 * result + strategy.getPrefix().hashCode();
+        }
+
+        return result;
+    }
+
+    int getAccessorCount() {
+        return accessorPrefixes.length;
+    }
+
+    String getAccessorPrefix(int rank) {
+        return accessorPrefixes[rank];
+    }
+
+    boolean isBooleanOnly(int rank) {
+        return booleanOnly[rank];
+    }
+
+    /**
+     * Determines the length of the prefix to ignore when matching a field to its accessors. Prefixes which end in a
+     * letter or digit are only removed when followed by an upper-case character, so that "m" is removed from "mName"
+     * but not from "mode"
+     *
+     * @param fieldName
+     *            The name of the field
+     * @return The length of the first matching field prefix, or 0 if there is no matching prefix
+     */
+    int getFieldPrefixLength(String fieldName) {
+        int result = 0;
+
+        for (int i = 0; i < fieldPrefixes.length && result == 0; i++) {
+            String prefix = fieldPrefixes[i];
+
+            if (fieldName.length() > prefix.length() && fieldName.startsWith(prefix)
+                    && (!Character.isLetterOrDigit(prefix.charAt(prefix.length() - 1))
+                            || Character.isUpperCase(fieldName.charAt(prefix.length())))) {
+                result = prefix.length();
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public int hashCode() {
+        return strategies.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        boolean result = false;
+
+        if (obj instanceof AccessorNaming) {
+            AccessorNaming compare = (AccessorNaming) obj;
+
+            result = Objects.equals(strategies, compare.strategies);
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return strategies.toString();
+    }
+
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.Signature;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.Annotation;
+import org.eclipse.jdt.core.dom.AnonymousClassDeclaration;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.FieldDeclaration;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.RecordDeclaration;
+import org.eclipse.jdt.core.dom.SingleVariableDeclaration;
+import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
+
+/**
+ * Finds the "bean" fields of a type from the syntax tree of a compilation unit, rather than the Java model
+ *
+ * <p>
+ * Intended for use on editor buffers with unsaved changes, where reading the Java model would first require a full
+ * reconcile. The current buffer contents are always parsed, without bindings and skipping method bodies away from the
+ * insertion point - any shared syntax tree the editor holds was built from the last reconciled state, and would miss
+ * newly typed members. Only the enclosing type declaration's field and method declarations are read, so inherited
+ * members are not supported
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+public class AstBeanIntrospector {
+
+    private final AccessorNaming naming;
+
+    /**
+     * @param naming
+     *            The accessor naming strategies used to match fields to their accessors
+     */
+    public AstBeanIntrospector(AccessorNaming naming) {
+        this.naming = Objects.requireNonNull(naming);
+    }
+
+    /**
+     * Finds all pairs of fields to methods which follow a pre-defined "bean" pattern, within the type declaration
+     * enclosing an offset of a compilation unit
+     *
+     * @param unit
+     *            The compilation unit the template is being inserted into
+     * @param offset
+     *            The offset within the compilation unit's buffer the template is being inserted at
+     * @return The bean model of the enclosing type, or null if the offset is not within a type declaration
+     * @see BeanIntrospector#introspect(org.eclipse.jdt.core.IType, boolean)
+     */
+    public BeanModel introspect(ICompilationUnit unit, int offset) {
+        Objects.requireNonNull(unit);
+
+        CompilationUnit ast = parse(unit, offset);
+
+        EnclosingTypeFinder finder = new EnclosingTypeFinder(offset);
+        ast.accept(finder);
+
+        BeanModel result = null;
+
+        if (finder.getRecordComponents() != null) {
+            result = introspectRecord(finder.getRecordComponents());
+        } else if (finder.getBodyDeclarations() != null) {
+            result = introspect(finder.getBodyDeclarations(), finder.getTypeModifiers(),
+                    LombokAccessors.forImports(ast.imports()));
+        }
+
+        return result;
+    }
+
+    private BeanModel introspectRecord(List<?> recordComponents) {
+        String[] names = new String[recordComponents.size()];
+        String[] accessors = new String[recordComponents.size()];
+        String[] typeSignatures = new String[recordComponents.size()];
+        int[] flags = new int[recordComponents.size()];
+        String[][] annotations = new String[recordComponents.size()][];
+
+        for (int i = 0; i < names.length; i++) {
+            SingleVariableDeclaration component = (SingleVariableDeclaration) recordComponents.get(i);
+
+            names[i] = component.getName().getIdentifier();
+            accessors[i] = names[i] + "()";
+            typeSignatures[i] = getTypeSignature(component);
+            // Record component fields are implicitly private and final
+            flags[i] = component.getModifiers() | Flags.AccPrivate | Flags.AccFinal;
+            annotations[i] = getAnnotationNames(component.modifiers());
+        }
+
+        return new BeanModel(names, accessors, typeSignatures, flags, annotations, new String[0]);
+    }
+
+    private BeanModel introspect(List<?> bodyDeclarations, List<?> typeModifiers, LombokAccessors lombok) {
+        boolean typeGenerated = lombok.isGeneratedForType(typeModifiers);
+        List<String> fieldNames = new ArrayList<>();
+        List<String> fieldTypeSignatures = new ArrayList<>();
+        List<Integer> fieldFlags = new ArrayList<>();
+        List<String[]> fieldAnnotations = new ArrayList<>();
+        List<String> generatedGetters = new ArrayList<>();
+        List<String> methodNames = new ArrayList<>();
+        List<Integer> methodFlags = new ArrayList<>();
+
+        for (Object bodyDeclaration : bodyDeclarations) {
+            if (bodyDeclaration instanceof MethodDeclaration) {
+                MethodDeclaration method = (MethodDeclaration) bodyDeclaration;
+
+                if (!method.isConstructor() && method.parameters().isEmpty()) {
+                    methodNames.add(method.getName().getIdentifier());
+                    methodFlags.add(method.getModifiers());
+                }
+            } else if (bodyDeclaration instanceof FieldDeclaration) {
+                FieldDeclaration field = (FieldDeclaration) bodyDeclaration;
+                Boolean fieldGenerated = lombok.isGeneratedForField(field.modifiers());
+                String[] annotations = getAnnotationNames(field.modifiers());
+
+                for (Object fragment : field.fragments()) {
+                    VariableDeclarationFragment variable = (VariableDeclarationFragment) fragment;
+                    String name = variable.getName().getIdentifier();
+                    String typeSignature = getTypeSignature(field, variable);
+
+                    fieldNames.add(name);
+                    fieldTypeSignatures.add(typeSignature);
+                    fieldFlags.add(field.getModifiers());
+                    fieldAnnotations.add(annotations);
+                    generatedGetters.add(LombokAccessors.getGeneratedGetter(name, typeSignature, field.getModifiers(),
+                            typeGenerated, fieldGenerated));
+                }
+            }
+        }
+
+        MemberSnapshot snapshot = new MemberSnapshot(fieldNames.toArray(new String[fieldNames.size()]),
+                fieldTypeSignatures.toArray(new String[fieldTypeSignatures.size()]), toArray(fieldFlags),
+                fieldAnnotations.toArray(new String[fieldAnnotations.size()][]),
+                generatedGetters.toArray(new String[generatedGetters.size()]),
+                methodNames.toArray(new String[methodNames.size()]), toArray(methodFlags), 0);
+
+        // Models built from a syntax tree reflect a buffer state rather than the Java model, so are not tied to types
+        return BeanIntrospector.createModel(new MemberSnapshot[] { snapshot }, naming, new String[0]);
+    }
+
+    /**
+     * @param modifiers
+     *            The modifiers of a declaration, which may include annotations
+     * @return The names of the annotations, as written in source
+     */
+    private static String[] getAnnotationNames(List<?> modifiers) {
+        return modifiers.stream()
+                .filter(Annotation.class::isInstance)
+                .map(modifier -> ((Annotation) modifier).getTypeName().getFullyQualifiedName())
+                .toArray(String[]::new);
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        return values.stream()
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    /**
+     * Parses the current buffer contents of a compilation unit, without resolving bindings
+     *
+     * @param unit
+     *            The compilation unit to parse
+     * @param offset
+     *            The position of interest. Method bodies which do not contain this position are not parsed
+     * @return The syntax tree of the compilation unit
+     */
+    private CompilationUnit parse(ICompilationUnit unit, int offset) {
+        // The latest level available in the minimum supported JDT version which includes records
+        ASTParser parser = ASTParser.newParser(AST.JLS16);
+        parser.setKind(ASTParser.K_COMPILATION_UNIT);
+        parser.setSource(unit);
+        parser.setResolveBindings(false);
+        parser.setFocalPosition(offset);
+
+        return (CompilationUnit) parser.createAST(null);
+    }
+
+    /**
+     * Determines the unresolved type signature of a declared field, in the same form the Java model reports for source
+     * fields
+     *
+     * @param field
+     *            The declaration containing the field
+     * @param variable
+     *            The fragment of the declaration for the field
+     * @return The unresolved type signature of the field
+     */
+    private String getTypeSignature(FieldDeclaration field, VariableDeclarationFragment variable) {
+        String signature = Signature.createTypeSignature(field.getType().toString(), false);
+
+        return (variable.getExtraDimensions() > 0
+                ? Signature.createArraySignature(signature, variable.getExtraDimensions()) : signature);
+    }
+
+    /**
+     * Determines the unresolved type signature of a declared record component
+     *
+     * @param component
+     *            The declaration of the record component
+     * @return The type signature of the record component
+     */
+    private String getTypeSignature(SingleVariableDeclaration component) {
+        String signature = Signature.createTypeSignature(component.getType().toString(), false);
+        // Variable arity components are arrays of the declared type
+        int dimensions = component.getExtraDimensions() + (component.isVarargs() ? 1 : 0);
+
+        return (dimensions > 0 ? Signature.createArraySignature(signature, dimensions) : signature);
+    }
+
+    /**
+     * Finds the body declarations, and record components if any, of the innermost type declaration, named or anonymous,
+     * containing an offset
+     *
+     * @author romeara
+     * @since 0.2.0
+     */
+    private static final class EnclosingTypeFinder extends ASTVisitor {
+
+        private final int offset;
+
+        private List<?> bodyDeclarations;
+
+        private List<?> recordComponents;
+
+        private List<?> typeModifiers;
+
+        public EnclosingTypeFinder(int offset) {
+            this.offset = offset;
+            bodyDeclarations = null;
+            recordComponents = null;
+            typeModifiers = null;
+        }
+
+        @Override
+        public boolean preVisit2(ASTNode node) {
+            boolean contains = node.getStartPosition() <= offset
+                    && offset <= node.getStartPosition() + node.getLength();
+
+            if (contains && node instanceof AbstractTypeDeclaration) {
+                bodyDeclarations = ((AbstractTypeDeclaration) node).bodyDeclarations();
+                recordComponents = (node instanceof RecordDeclaration ? ((RecordDeclaration) node).recordComponents()
+                        : null);
+                typeModifiers = ((AbstractTypeDeclaration) node).modifiers();
+            } else if (contains && node instanceof AnonymousClassDeclaration) {
+                bodyDeclarations = ((AnonymousClassDeclaration) node).bodyDeclarations();
+                recordComponents = null;
+                typeModifiers = Collections.emptyList();
+            }
+
+            // Nodes which do not contain the offset cannot contain the enclosing type declaration
+            return contains;
+        }
+
+        public List<?> getBodyDeclarations() {
+            return bodyDeclarations;
+        }
+
+        /**
+         * @return The modifiers, including annotations, of the innermost enclosing type
+         */
+        public List<?> getTypeModifiers() {
+            return typeModifiers;
+        }
+
+        /**
+         * @return The components of the innermost enclosing type, or null if it is not a record
+         */
+        public List<?> getRecordComponents() {
+            return recordComponents;
+        }
+
+    }
+
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.starchartlabs.eclipse.template.dynamic.metrics.ResolverStatistics;
+
+/**
+ * Reads the Java model to find the "bean" fields of a type
+ *
+ * <p>
+ * In this context, a "bean" field is defined as a field which has a matching method called "get(Fieldname)". For
+ * booleans, "is(Fieldname)" will also be considered a match. Additional accessor naming strategies, such as fluent
+ * accessors or field name prefixes, may be configured via {@link AccessorNaming}
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+public class BeanIntrospector {
+
+    private static final Set<String> BOOLEAN_TYPE_SIGNATURES = Stream.of("Z", "QBoolean;", "Ljava.lang.Boolean;")
+            .collect(Collectors.toSet());
+
+    private static final String OBJECT_TYPE_NAME = "java.lang.Object";
+
+    private final TypeHierarchyCache hierarchyCache;
+
+    private final BinarySnapshotCache binarySnapshots;
+
+    private final ParallelScanner scanner;
+
+    private final Supplier<AccessorNaming> naming;
+
+    private final ResolverStatistics statistics;
+
+    /**
+     * @param hierarchyCache
+     *            Source of type hierarchies, used when inherited members are requested
+     * @param binarySnapshots
+     *            Source of the decoded members of binary types, such as library superclasses
+     * @param scanner
+     *            Applies member reads, in parallel for types with many members
+     * @param naming
+     *            Source of the current accessor naming strategies, used to match fields to their accessors
+     * @param statistics
+     *            Record of resolution statistics, which Java model usage is reported to
+     */
+    public BeanIntrospector(TypeHierarchyCache hierarchyCache, BinarySnapshotCache binarySnapshots,
+            ParallelScanner scanner, Supplier<AccessorNaming> naming, ResolverStatistics statistics) {
+        this.hierarchyCache = Objects.requireNonNull(hierarchyCache);
+        this.binarySnapshots = Objects.requireNonNull(binarySnapshots);
+        this.scanner = Objects.requireNonNull(scanner);
+        this.naming = Objects.requireNonNull(naming);
+        this.statistics = Objects.requireNonNull(statistics);
+    }
+
+    /**
+     * Finds all pairs of fields to methods which follow a pre-defined "bean" pattern. Pairs match this pattern if a
+     * field has a corresponding method named "get(fieldname)". For booleans, "is(fieldname)" is also permissible. In
+     * both cases the field name is expected to be capitalized. Any additionally configured naming strategies are also
+     * applied
+     *
+     * <p>
+     * When inherited members are included, fields and getters declared on any superclass are also considered, and
+     * fields are ordered starting from the top-most superclass. Private fields and getters of superclasses are not
+     * considered, as they cannot be accessed from the type
+     *
+     * <p>
+     * Getters generated by Lombok annotations on the type or its fields are treated as declared getters
+     *
+     * <p>
+     * Records are handled directly, mapping each record component to its accessor method in declaration order
+     *
+     * @param type
+     *            Eclipse JDT representation of the type the template is being inserted into
+     * @param inherited
+     *            True if members inherited from superclasses should be included
+     * @return The bean model of the type
+     * @throws JavaModelException
+     *             If there is an error reading Java model information from the type
+     */
+    public BeanModel introspect(IType type, boolean inherited) throws JavaModelException {
+        Objects.requireNonNull(type);
+
+        AtomicInteger modelCalls = new AtomicInteger();
+        boolean record = type.isRecord();
+        modelCalls.incrementAndGet();
+
+        // Record accessors are defined by the language, and records cannot extend other classes
+        BeanModel result = (record ? introspectRecord(type, modelCalls) : introspectClass(type, inherited, modelCalls));
+
+        statistics.recordJavaModelCalls(modelCalls.get());
+
+        return result;
+    }
+
+    /**
+     * Maps each component of a record to its accessor, without reading the record's methods
+     *
+     * @param type
+     *            The record the template is being inserted into
+     * @param modelCalls
+     *            Count of Java model calls made, incremented for each call made to read the record
+     * @return The bean model of the record
+     * @throws JavaModelException
+     *             If there is an error reading Java model information from the record
+     */
+    private BeanModel introspectRecord(IType type, AtomicInteger modelCalls) throws JavaModelException {
+        IField[] components = type.getRecordComponents();
+        modelCalls.incrementAndGet();
+
+        String[] names = new String[components.length];
+        String[] accessors = new String[components.length];
+        String[] typeSignatures = new String[components.length];
+        int[] flags = new int[components.length];
+        String[][] annotations = new String[components.length][];
+
+        for (int i = 0; i < components.length; i++) {
+            names[i] = components[i].getElementName();
+            accessors[i] = names[i] + "()";
+            typeSignatures[i] = components[i].getTypeSignature();
+            flags[i] = components[i].getFlags();
+            annotations[i] = MemberSnapshot.getAnnotationNames(components[i].getAnnotations());
+            modelCalls.addAndGet(3);
+        }
+
+        return new BeanModel(names, accessors, typeSignatures, flags, annotations,
+                new String[] { type.getHandleIdentifier() });
+    }
+
+    /**
+     * Matches the fields of a class to getters following the "bean" pattern
+     *
+     * @param type
+     *            The class the template is being inserted into
+     * @param inherited
+     *            True if members inherited from superclasses should be included
+     * @param modelCalls
+     *            Count of Java model calls made, incremented by the calls made to read source types. Calls made to
+     *            decode binary types are reported by the binary snapshot cache, as decoded members are shared
+     * @return The bean model of the class
+     * @throws JavaModelException
+     *             If there is an error reading Java model information from the class
+     */
+    private BeanModel introspectClass(IType type, boolean inherited, AtomicInteger modelCalls)
+            throws JavaModelException {
+        IType[] types = getTypes(type, inherited);
+        MemberSnapshot[] snapshots = new MemberSnapshot[types.length];
+        String[] sourceHandles = new String[types.length];
+
+        for (int i = 0; i < types.length; i++) {
+            // Binary types are decoded from their class files, so previously decoded members are re-used
+            if (types[i].isBinary()) {
+                snapshots[i] = binarySnapshots.get(types[i], scanner);
+            } else {
+                snapshots[i] = MemberSnapshot.read(types[i], scanner);
+                modelCalls.addAndGet(snapshots[i].getModelCalls());
+            }
+
+            sourceHandles[i] = types[i].getHandleIdentifier();
+        }
+
+        return createModel(snapshots, naming.get(), sourceHandles);
+    }
+
+    /**
+     * Matches fields to getters using only previously read member information
+     *
+     * @param snapshots
+     *            The members of the types to read, ordered from the top-most superclass down to the type the template
+     *            is being inserted into
+     * @param naming
+     *            The accessor naming strategies used to match fields to their accessors
+     * @param sourceHandles
+     *            Handle identifiers of the types read to build the snapshots
+     * @return The bean model of the fields which matched a getter, in the order they should be rendered
+     */
+    static BeanModel createModel(MemberSnapshot[] snapshots, AccessorNaming naming, String[] sourceHandles) {
+        Objects.requireNonNull(snapshots);
+        Objects.requireNonNull(naming);
+        Objects.requireNonNull(sourceHandles);
+
+        List<String> methodNames = new ArrayList<>();
+        int last = snapshots.length - 1;
+        int fieldCount = 0;
+
+        for (int i = 0; i < snapshots.length; i++) {
+            for (int method = 0; method < snapshots[i].getMethodCount(); method++) {
+                // Private getters of superclasses cannot be called from the type
+                if (i == last || !Flags.isPrivate(snapshots[i].getMethodFlags(method))) {
+                    methodNames.add(snapshots[i].getMethodName(method));
+                }
+            }
+
+            fieldCount += snapshots[i].getFieldCount();
+        }
+
+        GetterIndex getters = naming.createIndex(methodNames);
+        Set<String> matched = new HashSet<>();
+        String[] names = new String[fieldCount];
+        String[] accessors = new String[fieldCount];
+        String[] typeSignatures = new String[fieldCount];
+        int[] flags = new int[fieldCount];
+        String[][] annotations = new String[fieldCount][];
+        int count = 0;
+
+        for (int i = 0; i < snapshots.length; i++) {
+            MemberSnapshot snapshot = snapshots[i];
+
+            for (int field = 0; field < snapshot.getFieldCount(); field++) {
+                // Private fields of superclasses cannot be accessed from the type, so are not bean fields of it
+                if (i == last || !Flags.isPrivate(snapshot.getFieldFlags(field))) {
+                    String name = snapshot.getFieldName(field);
+                    String getter = getters.getGetter(name, isBooleanSignature(snapshot.getFieldTypeSignature(field)));
+
+                    // Declared getters take precedence, as annotation processors do not generate over them
+                    if (getter == null) {
+                        getter = snapshot.getGeneratedGetter(field);
+                    }
+
+                    // Fields hidden by a subclass field of the same name are rendered once, in their superclass
+                    // position
+                    if (getter != null && matched.add(name)) {
+                        names[count] = name;
+                        accessors[count] = getter + "()";
+                        typeSignatures[count] = snapshot.getFieldTypeSignature(field);
+                        flags[count] = snapshot.getFieldFlags(field);
+                        annotations[count] = snapshot.getFieldAnnotations(field);
+                        count++;
+                    }
+                }
+            }
+        }
+
+        return new BeanModel(Arrays.copyOf(names, count), Arrays.copyOf(accessors, count),
+                Arrays.copyOf(typeSignatures, count), Arrays.copyOf(flags, count), Arrays.copyOf(annotations, count),
+                sourceHandles);
+    }
+
+    /**
+     * Determines the types to read members from
+     *
+     * @param type
+     *            The type the template is being inserted into
+     * @param inherited
+     *            True if members inherited from superclasses should be included
+     * @return The types to read, ordered from the top-most superclass down to the provided type
+     * @throws JavaModelException
+     *             If there is an error reading the type's hierarchy
+     */
+    private IType[] getTypes(IType type, boolean inherited) throws JavaModelException {
+        List<IType> result = new ArrayList<>();
+
+        if (inherited) {
+            IType[] superclasses = hierarchyCache.getAllSuperclasses(type);
+
+            for (int i = superclasses.length - 1; i >= 0; i--) {
+                if (!OBJECT_TYPE_NAME.equals(superclasses[i].getFullyQualifiedName())) {
+                    result.add(superclasses[i]);
+                }
+            }
+        }
+
+        result.add(type);
+
+        return result.toArray(new IType[result.size()]);
+    }
+
+    /**
+     * Determines if a type signature represents a primitive or object boolean
+     *
+     * @param typeSignature
+     *            The type signature to check, in resolved or unresolved form
+     * @return True if the signature represents a form of Java boolean, false otherwise
+     */
+    static boolean isBooleanSignature(String typeSignature) {
+        Objects.requireNonNull(typeSignature);
+
+        return BOOLEAN_TYPE_SIGNATURES.contains(typeSignature);
+    }
+
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.model;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.core.IAnnotation;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IMemberValuePair;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.ISourceRange;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+
+/**
+ * Provides information about the bean fields of a model which is too costly to read during the member scan, such as
+ * Javadoc, getter return types, and annotation values
+ *
+ * <p>
+ * Information is read from the Java model on first request for each field, and kept for the lifetime of the instance.
+ * Instances are intended to last for a single rendering, and are not safe to share between threads. Models read from
+ * unsaved edits are not associated with Java model types, and fall back to values available from the model itself
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+public final class BeanMembers {
+
+    private static final String CALL_SUFFIX = "()";
+
+    private static final String VALUE_MEMBER = "value";
+
+    private static final String[] NO_PARAMETERS = new String[0];
+
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]*>");
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final BeanModel model;
+
+    // Resolved on first use, in the same order as the model's source handles
+    private IType[] types = null;
+
+    private String[] javadocSummaries = null;
+
+    private String[] getterTypeSignatures = null;
+
+    /**
+     * @param model
+     *            The bean model to read member information for
+     */
+    public BeanMembers(BeanModel model) {
+        this.model = Objects.requireNonNull(model);
+    }
+
+    /**
+     * @param index
+     *            The index of the bean field
+     * @return The first sentence of the field's Javadoc, with markup removed, or an empty string if it has none
+     * @throws JavaModelException
+     *             If there is an error reading Java model information
+     */
+    public String getJavadocSummary(int index) throws JavaModelException {
+        if (javadocSummaries == null) {
+            javadocSummaries = new String[model.getFieldCount()];
+        }
+
+        if (javadocSummaries[index] == null) {
+            IField field = findField(model.getFieldName(index));
+
+            javadocSummaries[index] = (field != null ? toSummary(getJavadoc(field)) : "");
+        }
+
+        return javadocSummaries[index];
+    }
+
+    /**
+     * @param index
+     *            The index of the bean field
+     * @return The return type signature of the getter matched to the field. Getters which are not declared in the Java
+     *         model, such as record accessors and generated getters, are assumed to return the field's type
+     * @throws JavaModelException
+     *             If there is an error reading Java model information
+     */
+    public String getGetterTypeSignature(int index) throws JavaModelException {
+        if (getterTypeSignatures == null) {
+            getterTypeSignatures = new String[model.getFieldCount()];
+        }
+
+        if (getterTypeSignatures[index] == null) {
+            IMethod getter = findGetter(model.getGetter(index));
+
+            getterTypeSignatures[index] = (getter != null ? getter.getReturnType()
+                    : model.getFieldTypeSignature(index));
+        }
+
+        return getterTypeSignatures[index];
+    }
+
+    /**
+     * @param index
+     *            The index of the bean field
+     * @param annotationName
+     *            The name of an annotation of the field, as provided by {@link BeanModel#getFieldAnnotations(int)}
+     * @return The value of the annotation's "value" member, or null if the annotation or member is not present
+     * @throws JavaModelException
+     *             If there is an error reading Java model information
+     */
+    public Object getAnnotationValue(int index, String annotationName) throws JavaModelException {
+        Objects.requireNonNull(annotationName);
+
+        Object result = null;
+        IField field = findField(model.getFieldName(index));
+
+        if (field != null) {
+            for (IAnnotation annotation : field.getAnnotations()) {
+                if (annotationName.equals(annotation.getElementName())) {
+                    for (IMemberValuePair pair : annotation.getMemberValuePairs()) {
+                        if (VALUE_MEMBER.equals(pair.getMemberName())) {
+                            result = pair.getValue();
+                        }
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private IField findField(String name) {
+        IField result = null;
+
+        IType[] candidates = getTypes();
+
+        // Types are ordered from the top-most superclass, whose declaration is the one rendered for hidden fields
+        for (int i = 0; i < candidates.length && result == null; i++) {
+            IField field = candidates[i].getField(name);
+
+            if (field.exists()) {
+                result = field;
+            }
+        }
+
+        return result;
+    }
+
+    private IMethod findGetter(String getterCall) {
+        IMethod result = null;
+        String name = (getterCall.endsWith(CALL_SUFFIX)
+                ? getterCall.substring(0, getterCall.length() - CALL_SUFFIX.length()) : getterCall);
+
+        for (IType type : getTypes()) {
+            IMethod method = type.getMethod(name, NO_PARAMETERS);
+
+            // Overrides take precedence, as they may narrow the return type
+            if (method.exists()) {
+                result = method;
+            }
+        }
+
+        return result;
+    }
+
+    private IType[] getTypes() {
+        if (types == null) {
+            String[] sourceHandles = model.getSourceHandles();
+            IType[] resolved = new IType[sourceHandles.length];
+            int count = 0;
+
+            for (String sourceHandle : sourceHandles) {
+                IJavaElement element = JavaCore.create(sourceHandle);
+
+                if (element instanceof IType) {
+                    resolved[count++] = (IType) element;
+                }
+            }
+
+            types = (count == resolved.length ? resolved : Arrays.copyOf(resolved, count));
+        }
+
+        return types;
+    }
+
+    /**
+     * Reads the Javadoc of a member from source if available, and otherwise from any attached documentation
+     *
+     * @param member
+     *            The member to read Javadoc of
+     * @return The raw Javadoc content, or null if the member has none
+     * @throws JavaModelException
+     *             If there is an error reading Java model information
+     */
+    private static String getJavadoc(IMember member) throws JavaModelException {
+        String result = null;
+
+        if (member.isBinary()) {
+            String html = member.getAttachedJavadoc(null);
+
+            result = (html != null ? HTML_TAG.matcher(html).replaceAll(" ") : null);
+        } else {
+            ISourceRange javadocRange = member.getJavadocRange();
+            ISourceRange sourceRange = member.getSourceRange();
+            String source = member.getSource();
+
+            // The Javadoc range is within the member's source range, which starts at the Javadoc when present
+            if (javadocRange != null && sourceRange != null && source != null) {
+                int start = javadocRange.getOffset() - sourceRange.getOffset();
+                int end = start + javadocRange.getLength();
+
+                if (start >= 0 && end <= source.length()) {
+                    result = stripComment(source.substring(start, end));
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private static String stripComment(String javadoc) {
+        StringBuilder result = new StringBuilder(javadoc.length());
+        String body = javadoc;
+
+        if (body.startsWith("/**")) {
+            body = body.substring(3);
+        }
+
+        if (body.endsWith("*/")) {
+            body = body.substring(0, body.length() - 2);
+        }
+
+        String[] lines = body.split("\\R");
+        boolean description = true;
+
+        for (int i = 0; i < lines.length && description; i++) {
+            String content = lines[i].trim();
+
+            if (content.startsWith("*")) {
+                content = content.substring(1).trim();
+            }
+
+            // The summary ends at the first block tag
+            description = !content.startsWith("@");
+
+            if (description) {
+                result.append(content).append(' ');
+            }
+        }
+
+        return result.toString();
+    }
+
+    private static String toSummary(String javadoc) {
+        String result = "";
+
+        if (javadoc != null) {
+            String text = WHITESPACE.matcher(javadoc).replaceAll(" ").trim();
+            int end = text.indexOf(". ");
+
+            result = (end >= 0 ? text.substring(0, end + 1) : text);
+        }
+
+        return result;
+    }
+
+}
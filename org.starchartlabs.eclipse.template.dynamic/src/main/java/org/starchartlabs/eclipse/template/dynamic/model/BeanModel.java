@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Bean field information resolved for a Java type
+ *
+ * <p>
+ * Fields are held as flat, index-aligned columns in the order they should be rendered, so that they may be filtered and
+ * rendered without per-field objects or further Java model reads
+ *
+ * <p>
+ * Records the handle identifiers of every type read to build the model, so that the model may be discarded when any
+ * of them change
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+public final class BeanModel {
+
+    private final String[] fieldNames;
+
+    private final String[] getters;
+
+    private final String[] fieldTypeSignatures;
+
+    private final TypeCategory[] fieldCategories;
+
+    private final int[] fieldFlags;
+
+    private final String[][] fieldAnnotations;
+
+    private final String[] sourceHandles;
+
+    // Built on first request - only needed by callers which work with field/getter pairs directly
+    private volatile Map<String, String> beanPairs = null;
+
+    /**
+     * @param fieldNames
+     *            Names of the bean fields, in the order they should be rendered
+     * @param getters
+     *            The getter call that matched each bean field
+     * @param fieldTypeSignatures
+     *            The type signature of each bean field, in resolved or unresolved form
+     * @param fieldFlags
+     *            Modifier flags of each bean field
+     * @param fieldAnnotations
+     *            Names of the annotations of each bean field
+     * @param sourceHandles
+     *            Handle identifiers of the types read to build the model
+     */
+    public BeanModel(String[] fieldNames, String[] getters, String[] fieldTypeSignatures, int[] fieldFlags,
+            String[][] fieldAnnotations, String[] sourceHandles) {
+        this.fieldNames = Objects.requireNonNull(fieldNames).clone();
+        this.getters = Objects.requireNonNull(getters).clone();
+        this.fieldTypeSignatures = Objects.requireNonNull(fieldTypeSignatures).clone();
+        this.fieldFlags = Objects.requireNonNull(fieldFlags).clone();
+        this.fieldAnnotations = Objects.requireNonNull(fieldAnnotations).clone();
+        this.sourceHandles = Objects.requireNonNull(sourceHandles).clone();
+
+        if (getters.length != fieldNames.length || fieldTypeSignatures.length != fieldNames.length
+                || fieldFlags.length != fieldNames.length || fieldAnnotations.length != fieldNames.length) {
+            throw new IllegalArgumentException("Bean field information must be provided for every field");
+        }
+
+        // Categorized once when the model is built, so rendering may dispatch on category without examining types
+        fieldCategories = new TypeCategory[fieldTypeSignatures.length];
+
+        for (int i = 0; i < fieldCategories.length; i++) {
+            fieldCategories[i] = TypeCategory.of(fieldTypeSignatures[i]);
+        }
+    }
+
+    /**
+     * @return The number of bean fields
+     */
+    public int getFieldCount() {
+        return fieldNames.length;
+    }
+
+    /**
+     * @param index
+     *            The index of the bean field
+     * @return The name of the field
+     */
+    public String getFieldName(int index) {
+        return fieldNames[index];
+    }
+
+    /**
+     * @param index
+     *            The index of the bean field
+     * @return The getter call that matched the field, including parentheses
+     */
+    public String getGetter(int index) {
+        return getters[index];
+    }
+
+    /**
+     * @param index
+     *            The index of the bean field
+     * @return The type signature of the field, in resolved form if read from a class file and unresolved form if read
+     *         from source
+     */
+    public String getFieldTypeSignature(int index) {
+        return fieldTypeSignatures[index];
+    }
+
+    /**
+     * @param index
+     *            The index of the bean field
+     * @return The broad category of the field's type
+     */
+    public TypeCategory getFieldCategory(int index) {
+        return fieldCategories[index];
+    }
+
+    /**
+     * @param index
+     *            The index of the bean field
+     * @return The modifier flags of the field, as defined by {@link org.eclipse.jdt.core.Flags}
+     */
+    public int getFieldFlags(int index) {
+        return fieldFlags[index];
+    }
+
+    /**
+     * @param index
+     *            The index of the bean field
+     * @return The names of the field's annotations, as written in source or fully qualified if read from a class file.
+     *         The returned array must not be modified
+     */
+    public String[] getFieldAnnotations(int index) {
+        return fieldAnnotations[index];
+    }
+
+    /**
+     * @return An unmodifiable mapping of any bean fields to the getter call that matched
+     */
+    public Map<String, String> getBeanPairs() {
+        Map<String, String> result = beanPairs;
+
+        if (result == null) {
+            Map<String, String> pairs = new LinkedHashMap<>();
+
+            for (int i = 0; i < fieldNames.length; i++) {
+                pairs.put(fieldNames[i], getters[i]);
+            }
+
+            result = Collections.unmodifiableMap(pairs);
+            beanPairs = result;
+        }
+
+        return result;
+    }
+
+    /**
+     * Creates a model of externally provided bean pairs, in place of the fields found for the type. Type, modifier, and
+     * annotation information is carried over for fields also present in this model. Other fields have no modifiers or
+     * annotations, and an unknown (empty) type signature
+     *
+     * @param beanPairs
+     *            Mapping of bean field names to the getter call to use for them, in the order they should be rendered
+     * @return A model of the provided bean pairs, read from the same types as this model
+     * @since 0.2.0
+     */
+    public BeanModel withBeanPairs(Map<String, String> beanPairs) {
+        Objects.requireNonNull(beanPairs);
+
+        Map<String, Integer> indexes = new HashMap<>();
+
+        for (int i = 0; i < fieldNames.length; i++) {
+            indexes.putIfAbsent(fieldNames[i], i);
+        }
+
+        String[] names = new String[beanPairs.size()];
+        String[] calls = new String[names.length];
+        String[] typeSignatures = new String[names.length];
+        int[] flags = new int[names.length];
+        String[][] annotations = new String[names.length][];
+        int field = 0;
+
+        for (Map.Entry<String, String> entry : beanPairs.entrySet()) {
+            Integer index = indexes.get(entry.getKey());
+
+            names[field] = entry.getKey();
+            calls[field] = entry.getValue();
+            typeSignatures[field] = (index != null ? fieldTypeSignatures[index] : "");
+            flags[field] = (index != null ? fieldFlags[index] : 0);
+            annotations[field] = (index != null ? fieldAnnotations[index] : new String[0]);
+            field++;
+        }
+
+        return new BeanModel(names, calls, typeSignatures, flags, annotations, sourceHandles);
+    }
+
+    /**
+     * @return Handle identifiers of the types read to build the model
+     */
+    String[] getSourceHandles() {
+        return sourceHandles.clone();
+    }
+
+    /**
+     * Determines if this model was built from information within a Java element
+     *
+     * @param handlePrefix
+     *            The handle identifier of a Java element. Handle identifiers of contained elements start with the
+     *            handle identifier of their container
+     * @return True if any type read to build this model is the element or is contained within it
+     */
+    public boolean isSourcedFrom(String handlePrefix) {
+        Objects.requireNonNull(handlePrefix);
+
+        boolean result = false;
+
+        for (String sourceHandle : sourceHandles) {
+            result |= sourceHandle.startsWith(handlePrefix);
+        }
+
+        return result;
+    }
+
+}
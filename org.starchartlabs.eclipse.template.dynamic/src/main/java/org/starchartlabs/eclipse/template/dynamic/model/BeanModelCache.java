@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.starchartlabs.eclipse.template.dynamic.metrics.ResolverStatistics;
+
+/**
+ * Cache of bean models resolved for Java types, keyed by the handle identifier of the type and whether inherited
+ * members were included
+ *
+ * <p>
+ * Entries are removed when a Java element delta indicates that any type read to build the model, its members, or any
+ * element containing it has changed. This class is expected to be registered with JavaCore as an element change
+ * listener for the lifetime of the cache
+ *
+ * <p>
+ * The cache is bounded, and evicts the least recently used entries once full. Evicted models remain in the persistent
+ * index, so are re-read from it rather than the Java model if requested again
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+public class BeanModelCache implements IElementChangedListener {
+
+    private static final int DEFAULT_CAPACITY = 1_000;
+
+    // Changes which may alter the members of types within the element, without being reported on the types themselves
+    private static final int STRUCTURAL_CHANGE_FLAGS = IJavaElementDelta.F_CLOSED
+            | IJavaElementDelta.F_PRIMARY_WORKING_COPY
+            | IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED
+            | IJavaElementDelta.F_ADDED_TO_CLASSPATH
+            | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH
+            | IJavaElementDelta.F_CLASSPATH_CHANGED
+            | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED;
+
+    /**
+     * Represents the operation used to read the bean model for a type which is not present in the cache
+     *
+     * @author romeara
+     * @since 0.2.0
+     */
+    @FunctionalInterface
+    public interface Loader {
+
+        /**
+         * @param type
+         *            The type to read the bean model for
+         * @param inherited
+         *            True if members inherited from superclasses should be included
+         * @return The bean model of the type
+         * @throws JavaModelException
+         *             If there is an error reading Java model information from the type
+         */
+        BeanModel load(IType type, boolean inherited) throws JavaModelException;
+
+    }
+
+    // Guarded by this instance, as access-ordered maps are modified by reads
+    private final Map<BeanModelKey, BeanModel> entries;
+
+    private final BeanModelIndex index;
+
+    private final ResolverStatistics statistics;
+
+    // Incremented on every invalidation, so that values read while a change was being processed are not stored
+    private long generation = 0;
+
+    /**
+     * @param index
+     *            Persistent index consulted for types not yet cached, and updated with newly read bean models
+     * @param statistics
+     *            Record of resolution statistics, which cache hits and misses are reported to
+     */
+    public BeanModelCache(BeanModelIndex index, ResolverStatistics statistics) {
+        this(index, statistics, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param index
+     *            Persistent index consulted for types not yet cached, and updated with newly read bean models
+     * @param statistics
+     *            Record of resolution statistics, which cache hits and misses are reported to
+     * @param capacity
+     *            The maximum number of bean models to keep
+     */
+    public BeanModelCache(BeanModelIndex index, ResolverStatistics statistics, int capacity) {
+        this.index = Objects.requireNonNull(index);
+        this.statistics = Objects.requireNonNull(statistics);
+
+        entries = new LinkedHashMap<BeanModelKey, BeanModel>(capacity, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<BeanModelKey, BeanModel> eldest) {
+                return size() > capacity;
+            }
+
+        };
+    }
+
+    /**
+     * Retrieves the bean model for a type, reading it via the provided loader if it is not already cached
+     *
+     * @param type
+     *            The type to retrieve the bean model for
+     * @param inherited
+     *            True if members inherited from superclasses should be included
+     * @param loader
+     *            The operation used to read the bean model if it is not cached
+     * @return The bean model of the type
+     * @throws JavaModelException
+     *             If there is an error reading Java model information from the type
+     */
+    public BeanModel get(IType type, boolean inherited, Loader loader) throws JavaModelException {
+        Objects.requireNonNull(type);
+        Objects.requireNonNull(loader);
+
+        BeanModelKey key = new BeanModelKey(type.getHandleIdentifier(), inherited);
+        BeanModel result = null;
+        long loadGeneration = 0;
+
+        synchronized (this) {
+            result = entries.get(key);
+            loadGeneration = generation;
+        }
+
+        if (result == null) {
+            statistics.recordCacheMiss();
+
+            boolean indexed = true;
+            result = index.get(key);
+
+            if (result == null) {
+                indexed = false;
+                result = loader.load(type, inherited);
+            } else {
+                statistics.recordIndexHit();
+            }
+
+            synchronized (this) {
+                if (loadGeneration == generation) {
+                    entries.putIfAbsent(key, result);
+
+                    if (!indexed) {
+                        index.put(key, result);
+                    }
+                }
+            }
+        } else {
+            statistics.recordCacheHit();
+        }
+
+        return result;
+    }
+
+    /**
+     * Removes all entries from the cache
+     */
+    public synchronized void clear() {
+        generation++;
+        entries.clear();
+        index.clear();
+    }
+
+    @Override
+    public void elementChanged(ElementChangedEvent event) {
+        Objects.requireNonNull(event);
+
+        processDelta(event.getDelta());
+    }
+
+    private void processDelta(IJavaElementDelta delta) {
+        IJavaElement element = delta.getElement();
+
+        switch (element.getElementType()) {
+        case IJavaElement.TYPE:
+            invalidate(element);
+            break;
+        case IJavaElement.FIELD:
+        case IJavaElement.METHOD:
+        case IJavaElement.INITIALIZER:
+            invalidate(element.getParent());
+            break;
+        case IJavaElement.IMPORT_CONTAINER:
+        case IJavaElement.IMPORT_DECLARATION:
+            // Imports determine which annotations generate getters for every type in the compilation unit
+            invalidate(element.getAncestor(IJavaElement.COMPILATION_UNIT));
+            break;
+        default:
+            if (isStructuralChange(delta)) {
+                invalidate(element);
+            }
+        }
+
+        for (IJavaElementDelta child : delta.getAffectedChildren()) {
+            processDelta(child);
+        }
+    }
+
+    private boolean isStructuralChange(IJavaElementDelta delta) {
+        int flags = delta.getFlags();
+
+        // Coarse content changes are reported without details on the affected types
+        boolean coarseContentChange = (flags & IJavaElementDelta.F_CONTENT) != 0
+                && (flags & IJavaElementDelta.F_FINE_GRAINED) == 0;
+
+        return delta.getKind() != IJavaElementDelta.CHANGED
+                || coarseContentChange
+                || (flags & STRUCTURAL_CHANGE_FLAGS) != 0;
+    }
+
+    /**
+     * Removes the entries built from an element or any types contained within it
+     *
+     * @param element
+     *            The element which has changed
+     */
+    private synchronized void invalidate(IJavaElement element) {
+        generation++;
+
+        if (element.getElementType() == IJavaElement.JAVA_MODEL) {
+            entries.clear();
+            index.clear();
+        } else {
+            String prefix = element.getHandleIdentifier();
+
+            entries.values().removeIf(model -> model.isSourcedFrom(prefix));
+            index.invalidate(prefix);
+        }
+    }
+
+}
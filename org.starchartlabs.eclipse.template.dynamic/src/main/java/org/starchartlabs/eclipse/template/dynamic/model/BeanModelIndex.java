@@ -0,0 +1,460 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.model;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+
+/**
+ * Persistent index of bean models, allowing the first template insertion into a type after a restart to avoid reading
+ * its members from the Java model
+ *
+ * <p>
+ * Entries record the modification stamp of the resource each source type was read from, taken when the bean model is
+ * recorded, and are only used while every stamp is unchanged. Entries are checked when requested rather than when
+ * saved, so that saving does not read the Java model. Types from external libraries, and types with unsaved changes,
+ * are never persisted
+ *
+ * <p>
+ * The index is stored as a single binary file. On load, the file is read into memory and only the directory of indexed
+ * types is decoded - an entry's content is decoded when it is first requested. The file is not mapped or held open
+ * after loading, so that a later save may replace it on every platform
+ *
+ * <p>
+ * At most {@value #MAX_ENTRIES} newly read bean models are retained between saves. Once the limit is reached, the
+ * least recently recorded model is discarded for each new one, as only that many entries are persisted by a save
+ *
+ * <p>
+ * File layout, with strings stored as a length-prefixed UTF-8 byte sequence:
+ *
+ * <pre>
+ * int magic, int version, int configuration, int entryCount
+ * entryCount x { string handle, byte inherited, int contentOffset }
+ * entryCount x { int sourceCount, sourceCount x { string handle, long stamp },
+ *                int fieldCount, fieldCount x { string field, string getter, string typeSignature, int flags,
+ *                                               int annotationCount, annotationCount x { string annotation } } }
+ * </pre>
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+public class BeanModelIndex {
+
+    private static final int MAGIC = 0x42_4D_49_58;
+
+    private static final int VERSION = 4;
+
+    private static final int MAX_ENTRIES = 20_000;
+
+    // Offsets of entries within the content section, by key
+    private final ConcurrentMap<BeanModelKey, Integer> directory = new ConcurrentHashMap<>();
+
+    // Bean models read since the index was loaded, with their source stamps, persisted on the next save. Bounded in
+    // recording order
+    private final Map<BeanModelKey, IndexEntry> updates = Collections
+            .synchronizedMap(new LinkedHashMap<BeanModelKey, IndexEntry>() {
+
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<BeanModelKey, IndexEntry> eldest) {
+                    return size() > MAX_ENTRIES;
+                }
+
+            });
+
+    private volatile ByteBuffer content = null;
+
+    /**
+     * Reads the directory of a previously saved index. Files which are missing, were written by an incompatible
+     * version, or were written under a different configuration, are treated as an empty index
+     *
+     * @param file
+     *            The location of the index file
+     * @param configuration
+     *            Identifies the configuration bean models are read under, such as the accessor naming strategies in use
+     * @throws IOException
+     *             If there is an error reading the index file
+     */
+    public synchronized void load(Path file, int configuration) throws IOException {
+        Objects.requireNonNull(file);
+
+        clear();
+
+        if (Files.isRegularFile(file)) {
+            // Read onto the heap rather than mapped, as a mapping prevents replacing the file on some platforms
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+
+            try {
+                if (buffer.remaining() >= 16 && buffer.getInt() == MAGIC && buffer.getInt() == VERSION
+                        && buffer.getInt() == configuration) {
+                    readDirectory(buffer);
+                }
+            } catch (BufferUnderflowException | IllegalArgumentException | NegativeArraySizeException e) {
+                // A truncated or corrupt index only loses the benefit of persistence - start again from empty
+                clear();
+            }
+        }
+    }
+
+    /**
+     * Writes all recorded and loaded entries to disk, replacing any previous index file. Entries are written with the
+     * stamps they were recorded or loaded with, without checking them against the workspace
+     *
+     * @param file
+     *            The location of the index file
+     * @param configuration
+     *            Identifies the configuration the indexed bean models were read under
+     * @throws IOException
+     *             If there is an error writing the index file
+     */
+    public synchronized void save(Path file, int configuration) throws IOException {
+        Objects.requireNonNull(file);
+
+        Map<BeanModelKey, IndexEntry> entries = new LinkedHashMap<>();
+
+        // Newly read models take precedence, and are retained first if the index is full
+        synchronized (updates) {
+            entries.putAll(updates);
+        }
+
+        for (Entry<BeanModelKey, Integer> indexed : directory.entrySet()) {
+            if (!entries.containsKey(indexed.getKey()) && entries.size() < MAX_ENTRIES) {
+                IndexEntry entry = readEntry(indexed.getValue());
+
+                // Entries which have since changed are dropped when next requested, after a later load
+                if (entry != null) {
+                    entries.put(indexed.getKey(), entry);
+                }
+            }
+        }
+
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+
+        try (OutputStream stream = Files.newOutputStream(temporary)) {
+            write(entries, configuration, stream);
+        }
+
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * @param key
+     *            Identifies the bean model to look up
+     * @return The indexed bean model, or null if the type is not indexed or has changed since it was indexed
+     */
+    BeanModel get(BeanModelKey key) {
+        Objects.requireNonNull(key);
+
+        Integer offset = directory.get(key);
+        BeanModel result = null;
+
+        if (offset != null) {
+            IndexEntry entry = readEntry(offset);
+
+            if (entry != null && entry.isCurrent()) {
+                result = entry.getModel();
+            } else {
+                directory.remove(key, offset);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Records a newly read bean model, to be persisted on the next save. The modification stamps of the model's sources
+     * are taken when it is recorded, so this should be called as soon as the model has been read
+     *
+     * @param key
+     *            Identifies the bean model
+     * @param model
+     *            The bean model to record
+     */
+    void put(BeanModelKey key, BeanModel model) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(model);
+
+        IndexEntry entry = IndexEntry.create(model);
+
+        synchronized (updates) {
+            // Re-inserted, so that a re-read model counts as the most recently recorded. A model which cannot be
+            // persisted still replaces any earlier recording of the type
+            updates.remove(key);
+
+            if (entry != null) {
+                updates.put(key, entry);
+            }
+        }
+    }
+
+    /**
+     * Removes entries for types which are, or are contained within, a changed element
+     *
+     * @param handlePrefix
+     *            The handle identifier of the changed element
+     */
+    void invalidate(String handlePrefix) {
+        Objects.requireNonNull(handlePrefix);
+
+        updates.values().removeIf(entry -> entry.getModel().isSourcedFrom(handlePrefix));
+        directory.keySet().removeIf(key -> key.getHandleIdentifier().startsWith(handlePrefix));
+    }
+
+    /**
+     * Removes all entries from the index. The index file is not modified until the next save
+     */
+    public void clear() {
+        directory.clear();
+        updates.clear();
+        content = null;
+    }
+
+    private void readDirectory(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        Map<BeanModelKey, Integer> offsets = new LinkedHashMap<>();
+
+        for (int i = 0; i < count; i++) {
+            BeanModelKey key = new BeanModelKey(readString(buffer), buffer.get() != 0);
+
+            offsets.put(key, buffer.getInt());
+        }
+
+        content = buffer.slice();
+        directory.putAll(offsets);
+    }
+
+    /**
+     * @param offset
+     *            The offset of the entry within the content section of the index
+     * @return The decoded entry, or null if the entry is corrupt
+     */
+    private IndexEntry readEntry(int offset) {
+        ByteBuffer current = content;
+        IndexEntry result = null;
+
+        try {
+            // The index may be cleared concurrently, in which case the entry is no longer available
+            result = (current != null ? decodeEntry(current.duplicate(), offset) : null);
+        } catch (BufferUnderflowException | IllegalArgumentException | NegativeArraySizeException e) {
+            // Corrupt entries are read again through the Java model, and dropped from the index on the next save
+            result = null;
+        }
+
+        return result;
+    }
+
+    private static IndexEntry decodeEntry(ByteBuffer buffer, int offset) {
+        buffer.position(offset);
+
+        int sourceCount = buffer.getInt();
+        String[] sourceHandles = new String[sourceCount];
+        long[] stamps = new long[sourceCount];
+
+        for (int i = 0; i < sourceCount; i++) {
+            sourceHandles[i] = readString(buffer);
+            stamps[i] = buffer.getLong();
+        }
+
+        int fieldCount = buffer.getInt();
+        String[] fieldNames = new String[fieldCount];
+        String[] getters = new String[fieldCount];
+        String[] fieldTypeSignatures = new String[fieldCount];
+        int[] fieldFlags = new int[fieldCount];
+        String[][] fieldAnnotations = new String[fieldCount][];
+
+        for (int i = 0; i < fieldCount; i++) {
+            fieldNames[i] = readString(buffer);
+            getters[i] = readString(buffer);
+            fieldTypeSignatures[i] = readString(buffer);
+            fieldFlags[i] = buffer.getInt();
+            fieldAnnotations[i] = new String[buffer.getInt()];
+
+            for (int annotation = 0; annotation < fieldAnnotations[i].length; annotation++) {
+                fieldAnnotations[i][annotation] = readString(buffer);
+            }
+        }
+
+        BeanModel model = new BeanModel(fieldNames, getters, fieldTypeSignatures, fieldFlags, fieldAnnotations,
+                sourceHandles);
+
+        return new IndexEntry(model, stamps);
+    }
+
+    private static void write(Map<BeanModelKey, IndexEntry> entries, int configuration, OutputStream stream)
+            throws IOException {
+        ByteArrayOutputStream contentBytes = new ByteArrayOutputStream();
+        DataOutputStream contentOutput = new DataOutputStream(contentBytes);
+        DataOutputStream output = new DataOutputStream(stream);
+
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        output.writeInt(configuration);
+        output.writeInt(entries.size());
+
+        for (Entry<BeanModelKey, IndexEntry> entry : entries.entrySet()) {
+            writeString(output, entry.getKey().getHandleIdentifier());
+            output.writeByte(entry.getKey().isInherited() ? 1 : 0);
+            output.writeInt(contentOutput.size());
+
+            entry.getValue().write(contentOutput);
+        }
+
+        contentOutput.flush();
+        contentBytes.writeTo(output);
+        output.flush();
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * A bean model, with the modification stamps of the resources it was read from
+     *
+     * @author romeara
+     * @since 0.2.0
+     */
+    private static final class IndexEntry {
+
+        private final BeanModel model;
+
+        private final long[] stamps;
+
+        public IndexEntry(BeanModel model, long[] stamps) {
+            this.model = Objects.requireNonNull(model);
+            this.stamps = Objects.requireNonNull(stamps);
+        }
+
+        /**
+         * @param model
+         *            The bean model to persist
+         * @return An entry recording the current modification stamps of the model's sources, or null if any source
+         *         cannot be persisted
+         */
+        public static IndexEntry create(BeanModel model) {
+            String[] sourceHandles = model.getSourceHandles();
+            long[] stamps = new long[sourceHandles.length];
+            boolean persistable = sourceHandles.length > 0;
+
+            for (int i = 0; i < sourceHandles.length && persistable; i++) {
+                stamps[i] = getStamp(sourceHandles[i]);
+                persistable = stamps[i] != IResource.NULL_STAMP;
+            }
+
+            return (persistable ? new IndexEntry(model, stamps) : null);
+        }
+
+        public BeanModel getModel() {
+            return model;
+        }
+
+        /**
+         * @return True if every source of the model is unchanged since the entry was created
+         */
+        public boolean isCurrent() {
+            String[] sourceHandles = model.getSourceHandles();
+            boolean result = true;
+
+            for (int i = 0; i < sourceHandles.length && result; i++) {
+                result = stamps[i] != IResource.NULL_STAMP && stamps[i] == getStamp(sourceHandles[i]);
+            }
+
+            return result;
+        }
+
+        public void write(DataOutputStream output) throws IOException {
+            String[] sourceHandles = model.getSourceHandles();
+
+            output.writeInt(sourceHandles.length);
+
+            for (int i = 0; i < sourceHandles.length; i++) {
+                writeString(output, sourceHandles[i]);
+                output.writeLong(stamps[i]);
+            }
+
+            output.writeInt(model.getFieldCount());
+
+            for (int i = 0; i < model.getFieldCount(); i++) {
+                writeString(output, model.getFieldName(i));
+                writeString(output, model.getGetter(i));
+                writeString(output, model.getFieldTypeSignature(i));
+                output.writeInt(model.getFieldFlags(i));
+                output.writeInt(model.getFieldAnnotations(i).length);
+
+                for (String annotation : model.getFieldAnnotations(i)) {
+                    writeString(output, annotation);
+                }
+            }
+        }
+
+        /**
+         * @param handleIdentifier
+         *            Handle identifier of a type
+         * @return The modification stamp of the resource containing the type, or {@link IResource#NULL_STAMP} if the
+         *         type is not within the workspace, has unsaved changes, or cannot be read
+         */
+        private static long getStamp(String handleIdentifier) {
+            IJavaElement element = JavaCore.create(handleIdentifier);
+            long result = IResource.NULL_STAMP;
+
+            try {
+                if (element instanceof IMember && element.exists()) {
+                    ICompilationUnit unit = ((IMember) element).getCompilationUnit();
+                    IResource resource = element.getResource();
+
+                    if (resource != null && (unit == null || !unit.hasUnsavedChanges())) {
+                        result = resource.getModificationStamp();
+                    }
+                }
+            } catch (JavaModelException e) {
+                // Types which cannot be read are treated as changed, so that they are read again through the Java model
+                result = IResource.NULL_STAMP;
+            }
+
+            return result;
+        }
+
+    }
+
+}
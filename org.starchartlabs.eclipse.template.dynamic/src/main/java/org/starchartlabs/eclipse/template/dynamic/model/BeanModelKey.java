@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.model;
+
+import java.util.Objects;
+
+/**
+ * Identifies the bean model of a type, as read with or without members inherited from superclasses
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+final class BeanModelKey {
+
+    private final String handleIdentifier;
+
+    private final boolean inherited;
+
+    public BeanModelKey(String handleIdentifier, boolean inherited) {
+        this.handleIdentifier = Objects.requireNonNull(handleIdentifier);
+        this.inherited = inherited;
+    }
+
+    public String getHandleIdentifier() {
+        return handleIdentifier;
+    }
+
+    public boolean isInherited() {
+        return inherited;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(handleIdentifier, inherited);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        boolean result = false;
+
+        if (obj instanceof BeanModelKey) {
+            BeanModelKey compare = (BeanModelKey) obj;
+
+            result = Objects.equals(handleIdentifier, compare.handleIdentifier)
+                    && inherited == compare.inherited;
+        }
+
+        return result;
+    }
+
+}
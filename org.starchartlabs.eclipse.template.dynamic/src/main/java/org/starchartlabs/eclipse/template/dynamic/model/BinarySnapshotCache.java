@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.model;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.starchartlabs.eclipse.template.dynamic.metrics.ResolverStatistics;
+
+/**
+ * Bounded cache of the decoded members of binary types read from archives, keyed by archive location, class file entry,
+ * and archive timestamp
+ *
+ * <p>
+ * Reading the members of a binary type decodes its class file. Library superclasses are commonly shared by many types
+ * in a workspace, and are re-read whenever a subclass changes, so their decoded members are kept independently of the
+ * bean models built from them. Keying on the archive's timestamp means a replaced archive is decoded again without
+ * listening for changes. Binary types from class folders are not cached
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+public class BinarySnapshotCache {
+
+    private static final int DEFAULT_CAPACITY = 256;
+
+    private final Map<SnapshotKey, MemberSnapshot> snapshots;
+
+    private final ResolverStatistics statistics;
+
+    /**
+     * @param statistics
+     *            Record of resolution statistics, which Java model usage is reported to
+     */
+    public BinarySnapshotCache(ResolverStatistics statistics) {
+        this(DEFAULT_CAPACITY, statistics);
+    }
+
+    /**
+     * @param capacity
+     *            The maximum number of decoded types to keep
+     * @param statistics
+     *            Record of resolution statistics, which Java model usage is reported to
+     */
+    public BinarySnapshotCache(int capacity, ResolverStatistics statistics) {
+        this.statistics = Objects.requireNonNull(statistics);
+
+        snapshots = new LinkedHashMap<SnapshotKey, MemberSnapshot>(capacity, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<SnapshotKey, MemberSnapshot> eldest) {
+                return size() > capacity;
+            }
+
+        };
+    }
+
+    /**
+     * Reads the members of a type, re-using a previously decoded copy if the type is from an unchanged archive
+     *
+     * @param type
+     *            The type to read members of
+     * @param scanner
+     *            Applies member reads when the type must be decoded
+     * @return A snapshot of the type's members
+     * @throws JavaModelException
+     *             If there is an error reading Java model information from the type
+     */
+    MemberSnapshot get(IType type, ParallelScanner scanner) throws JavaModelException {
+        Objects.requireNonNull(type);
+        Objects.requireNonNull(scanner);
+
+        SnapshotKey key = getKey(type);
+        MemberSnapshot result = null;
+
+        if (key != null) {
+            synchronized (this) {
+                result = snapshots.get(key);
+            }
+        }
+
+        if (result == null) {
+            result = MemberSnapshot.read(type, scanner);
+            statistics.recordJavaModelCalls(result.getModelCalls());
+
+            if (key != null) {
+                synchronized (this) {
+                    snapshots.put(key, result);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Removes all decoded types from the cache
+     */
+    public synchronized void clear() {
+        snapshots.clear();
+    }
+
+    /**
+     * @param type
+     *            The type to identify
+     * @return The key identifying the type's decoded members, or null if the type is not read from an archive
+     */
+    private SnapshotKey getKey(IType type) {
+        IPackageFragmentRoot root = (IPackageFragmentRoot) type.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+        SnapshotKey result = null;
+
+        if (type.isBinary() && root != null && root.isArchive()) {
+            IResource resource = root.getResource();
+
+            // Archives within the workspace are identified by workspace path, so must be located on disk
+            File archive = (resource != null && resource.getLocation() != null ? resource.getLocation().toFile()
+                    : root.getPath().toFile());
+
+            String entry = type.getPackageFragment().getElementName().replace('.', '/') + '/'
+                    + type.getClassFile().getElementName();
+
+            result = new SnapshotKey(archive.getAbsolutePath(), entry, archive.lastModified());
+        }
+
+        return result;
+    }
+
+    /**
+     * Identifies a class file within a specific version of an archive
+     *
+     * @author romeara
+     * @since 0.2.0
+     */
+    private static final class SnapshotKey {
+
+        private final String archivePath;
+
+        private final String entryName;
+
+        private final long archiveTimestamp;
+
+        public SnapshotKey(String archivePath, String entryName, long archiveTimestamp) {
+            this.archivePath = Objects.requireNonNull(archivePath);
+            this.entryName = Objects.requireNonNull(entryName);
+            this.archiveTimestamp = archiveTimestamp;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(archivePath, entryName, archiveTimestamp);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            boolean result = false;
+
+            if (obj instanceof SnapshotKey) {
+                SnapshotKey compare = (SnapshotKey) obj;
+
+                result = Objects.equals(archivePath, compare.archivePath)
+                        && Objects.equals(entryName, compare.entryName)
+                        && archiveTimestamp == compare.archiveTimestamp;
+            }
+
+            return result;
+        }
+
+    }
+
+}
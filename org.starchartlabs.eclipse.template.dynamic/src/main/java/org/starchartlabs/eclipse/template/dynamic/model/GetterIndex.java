@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.model;
+
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Index of the accessor methods of a type, keyed by the portion of the method name following the prefix of any
+ * accessor naming strategy
+ *
+ * <p>
+ * Every strategy's keys are stored in a single table, with each slot holding the highest-ranked accessor for the key.
+ * Lookups are performed directly against a field name: the first character of the field name is compared in its
+ * capitalized form, and the remainder as-is. This allows matching a field to its accessor with a single hash probe
+ * regardless of the number of strategies, without building any intermediate strings. Fields with a configured prefix
+ * are probed once more without the prefix
+ *
+ * <p>
+ * Fluent accessors are keyed by their capitalized name, and only methods which do not start with an upper-case
+ * character are considered fluent accessors
+ *
+ * <p>
+ * Instances are immutable once created, and safe to share between threads
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+public final class GetterIndex {
+
+    private static final int NO_RANK = Integer.MAX_VALUE;
+
+    private final AccessorNaming naming;
+
+    // Open-addressed hash table - slots are empty when the key source is null
+    private final String[] keySources;
+
+    private final int[] keyOffsets;
+
+    private final String[] getters;
+
+    private final int[] getterRanks;
+
+    private final String[] booleanGetters;
+
+    private final int[] booleanGetterRanks;
+
+    private final int mask;
+
+    private GetterIndex(int capacity, AccessorNaming naming) {
+        this.naming = Objects.requireNonNull(naming);
+        keySources = new String[capacity];
+        keyOffsets = new int[capacity];
+        getters = new String[capacity];
+        getterRanks = new int[capacity];
+        booleanGetters = new String[capacity];
+        booleanGetterRanks = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Builds an index of the methods which match the expected pattern of a "getter", as defined by the conventional
+     * "get" and "is" prefixes
+     *
+     * @param methodNames
+     *            The names of methods which take no parameters
+     * @return An index of the provided getter methods
+     */
+    public static GetterIndex create(Collection<String> methodNames) {
+        return create(methodNames, AccessorNaming.DEFAULT);
+    }
+
+    /**
+     * Builds an index of the methods which match the accessor naming strategies provided
+     *
+     * @param methodNames
+     *            The names of methods which take no parameters
+     * @param naming
+     *            The compiled naming strategies which define accessor methods
+     * @return An index of the provided accessor methods
+     */
+    public static GetterIndex create(Collection<String> methodNames, AccessorNaming naming) {
+        Objects.requireNonNull(methodNames);
+        Objects.requireNonNull(naming);
+
+        // Keep the table at most half full, so probe sequences remain short, even if every method matches every
+        // strategy
+        int keys = Math.max(1, methodNames.size() * Math.max(1, naming.getAccessorCount()));
+        int capacity = Integer.highestOneBit(keys * 2 - 1) << 1;
+        GetterIndex result = new GetterIndex(capacity, naming);
+
+        for (String name : methodNames) {
+            for (int rank = 0; rank < naming.getAccessorCount(); rank++) {
+                String prefix = naming.getAccessorPrefix(rank);
+
+                if (prefix.isEmpty()) {
+                    if (!name.isEmpty() && !Character.isUpperCase(name.charAt(0))) {
+                        result.add(name, 0, true, rank);
+                    }
+                } else if (name.length() > prefix.length() && name.startsWith(prefix)) {
+                    result.add(name, prefix.length(), false, rank);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Finds the highest-ranked accessor method for a field
+     *
+     * @param fieldName
+     *            The name of the field to find an accessor for
+     * @param booleanField
+     *            True if the field is a boolean, and so may also match boolean-only strategies such as "is(Fieldname)"
+     * @return The name of the matching method, or null if there is no such method
+     */
+    public String getGetter(String fieldName, boolean booleanField) {
+        Objects.requireNonNull(fieldName);
+
+        int prefixLength = naming.getFieldPrefixLength(fieldName);
+        String result = find(fieldName, prefixLength, booleanField);
+
+        // Accessors may also have been named for the full field name, such as by generators unaware of the prefix
+        if (result == null && prefixLength > 0) {
+            result = find(fieldName, 0, booleanField);
+        }
+
+        return result;
+    }
+
+    private String find(String fieldName, int offset, boolean booleanField) {
+        String result = null;
+
+        if (fieldName.length() > offset) {
+            int slot = findSlot(fieldName, offset, true);
+
+            if (keySources[slot] != null) {
+                result = getters[slot];
+
+                if (booleanField && booleanGetterRanks[slot] < getterRanks[slot]) {
+                    result = booleanGetters[slot];
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private void add(String name, int offset, boolean capitalize, int rank) {
+        int slot = findSlot(name, offset, capitalize);
+
+        if (keySources[slot] == null) {
+            keySources[slot] = name;
+            keyOffsets[slot] = offset;
+            getterRanks[slot] = NO_RANK;
+            booleanGetterRanks[slot] = NO_RANK;
+        }
+
+        if (naming.isBooleanOnly(rank)) {
+            if (rank < booleanGetterRanks[slot]) {
+                booleanGetters[slot] = name;
+                booleanGetterRanks[slot] = rank;
+            }
+        } else if (rank < getterRanks[slot]) {
+            getters[slot] = name;
+            getterRanks[slot] = rank;
+        }
+    }
+
+    /**
+     * Locates the slot for a key, which is either occupied by a matching key or empty
+     *
+     * @param source
+     *            String containing the key
+     * @param offset
+     *            The index within the source the key begins at
+     * @param capitalize
+     *            True if the first character of the key should be compared in capitalized form
+     * @return The slot index for the key
+     */
+    private int findSlot(String source, int offset, boolean capitalize) {
+        int slot = hash(source, offset, capitalize) & mask;
+
+        while (keySources[slot] != null && !keyMatches(slot, source, offset, capitalize)) {
+            slot = (slot + 1) & mask;
+        }
+
+        return slot;
+    }
+
+    private boolean keyMatches(int slot, String source, int offset, boolean capitalize) {
+        String occupant = keySources[slot];
+        int occupantOffset = keyOffsets[slot];
+        int length = source.length() - offset;
+
+        // Only fluent keys start at the beginning of the method name, and are always stored capitalized
+        return occupant.length() - occupantOffset == length
+                && firstChar(occupant, occupantOffset, occupantOffset == 0) == firstChar(source, offset, capitalize)
+                && occupant.regionMatches(occupantOffset + 1, source, offset + 1, length - 1);
+    }
+
+    private static int hash(String source, int offset, boolean capitalize) {
+        int hash = firstChar(source, offset, capitalize);
+
+        for (int i = offset + 1; i < source.length(); i++) {
+            hash = 31 * hash + source.charAt(i);
+        }
+
+        // Spread higher bits into the lower bits used for slot selection
+        return hash ^ (hash >>> 16);
+    }
+
+    private static char firstChar(String source, int offset, boolean capitalize) {
+        char first = source.charAt(offset);
+
+        return (capitalize ? Character.toUpperCase(first) : first);
+    }
+
+}
@@ -0,0 +1,346 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.model;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.IAnnotation;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IImportDeclaration;
+import org.eclipse.jdt.core.IMemberValuePair;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.Annotation;
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.ImportDeclaration;
+import org.eclipse.jdt.core.dom.MemberValuePair;
+import org.eclipse.jdt.core.dom.Name;
+import org.eclipse.jdt.core.dom.NormalAnnotation;
+import org.eclipse.jdt.core.dom.QualifiedName;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.dom.SingleMemberAnnotation;
+
+/**
+ * Determines the getters Lombok generates for annotated types and fields, which are not present in the Java model
+ *
+ * <p>
+ * Type-level "Getter", "Data", and "Value" annotations generate getters for all non-static fields, and field-level
+ * "Getter" annotations generate a getter for that field. A "Getter" with access level "NONE" suppresses generation
+ *
+ * <p>
+ * Lombok annotations have source retention, so are only read from source. Instances apply to a single compilation
+ * unit, and recognize an annotation as Lombok's if it is written qualified by the "lombok" package, or by simple name
+ * where the compilation unit imports it - singly, or on demand without a conflicting single import. The same rule is
+ * applied to annotations read from the Java model and from a syntax tree
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+final class LombokAccessors {
+
+    /**
+     * Recognizes only qualified annotations, for compilation units without Lombok imports
+     */
+    private static final LombokAccessors QUALIFIED_ONLY = new LombokAccessors(Collections.emptySet());
+
+    private static final String LOMBOK_PACKAGE_PREFIX = "lombok.";
+
+    private static final String ON_DEMAND_SUFFIX = ".*";
+
+    private static final Set<String> TYPE_GETTER_ANNOTATIONS = Stream.of("Getter", "Data", "Value")
+            .collect(Collectors.toSet());
+
+    private static final Set<String> FIELD_GETTER_ANNOTATIONS = Stream.of("Getter")
+            .collect(Collectors.toSet());
+
+    private static final String VALUE_MEMBER = "value";
+
+    private static final String ACCESS_LEVEL_NONE = "NONE";
+
+    // Simple names of Lombok annotations which are imported, and so may be written unqualified
+    private final Set<String> importedNames;
+
+    private LombokAccessors(Set<String> importedNames) {
+        this.importedNames = Objects.requireNonNull(importedNames);
+    }
+
+    /**
+     * @param unit
+     *            The source compilation unit to recognize annotations within
+     * @param modelCalls
+     *            Count of Java model calls made, incremented for each call made to read the compilation unit
+     * @return Lombok annotation recognition for the compilation unit
+     * @throws JavaModelException
+     *             If there is an error reading Java model information
+     */
+    public static LombokAccessors forUnit(ICompilationUnit unit, AtomicInteger modelCalls) throws JavaModelException {
+        Objects.requireNonNull(unit);
+        Objects.requireNonNull(modelCalls);
+
+        IImportDeclaration[] imports = unit.getImports();
+        modelCalls.incrementAndGet();
+
+        return create(Stream.of(imports)
+                .map(IImportDeclaration::getElementName)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * @param imports
+     *            The import declarations of a compilation unit, within a syntax tree
+     * @return Lombok annotation recognition for the compilation unit
+     */
+    public static LombokAccessors forImports(List<?> imports) {
+        Objects.requireNonNull(imports);
+
+        return create(imports.stream()
+                .map(ImportDeclaration.class::cast)
+                .map(declaration -> declaration.getName().getFullyQualifiedName()
+                        + (declaration.isOnDemand() ? ON_DEMAND_SUFFIX : ""))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * @param importNames
+     *            The imported names of a compilation unit, with on-demand imports ending in ".*"
+     * @return Lombok annotation recognition for the compilation unit
+     */
+    private static LombokAccessors create(Collection<String> importNames) {
+        boolean onDemand = importNames.contains(LOMBOK_PACKAGE_PREFIX + "*");
+        Set<String> importedNames = new HashSet<>();
+
+        for (String name : TYPE_GETTER_ANNOTATIONS) {
+            boolean imported = false;
+            boolean shadowed = false;
+
+            for (String importName : importNames) {
+                imported |= importName.equals(LOMBOK_PACKAGE_PREFIX + name);
+                // A single import of a same-named type from another package takes precedence over an on-demand import
+                shadowed |= importName.endsWith("." + name) && !importName.startsWith(LOMBOK_PACKAGE_PREFIX);
+            }
+
+            if (imported || (onDemand && !shadowed)) {
+                importedNames.add(name);
+            }
+        }
+
+        return (importedNames.isEmpty() ? QUALIFIED_ONLY : new LombokAccessors(importedNames));
+    }
+
+    /**
+     * @param annotations
+     *            The annotations of a source type
+     * @param modelCalls
+     *            Count of Java model calls made, incremented for each call made to read annotation values
+     * @return True if the type's annotations generate getters for its non-static fields
+     * @throws JavaModelException
+     *             If there is an error reading Java model information
+     */
+    public boolean isGeneratedForType(IAnnotation[] annotations, AtomicInteger modelCalls)
+            throws JavaModelException {
+        return getGeneration(annotations, TYPE_GETTER_ANNOTATIONS, modelCalls) == Boolean.TRUE;
+    }
+
+    /**
+     * @param annotations
+     *            The annotations of a source field
+     * @param modelCalls
+     *            Count of Java model calls made, incremented for each call made to read annotation values
+     * @return True if the field's annotations generate a getter, false if they suppress one, or null if the field's
+     *         annotations do not affect generation
+     * @throws JavaModelException
+     *             If there is an error reading Java model information
+     */
+    public Boolean isGeneratedForField(IAnnotation[] annotations, AtomicInteger modelCalls)
+            throws JavaModelException {
+        return getGeneration(annotations, FIELD_GETTER_ANNOTATIONS, modelCalls);
+    }
+
+    /**
+     * @param modifiers
+     *            The modifiers of a type declaration within a syntax tree
+     * @return True if the type's annotations generate getters for its non-static fields
+     */
+    public boolean isGeneratedForType(List<?> modifiers) {
+        return getGeneration(modifiers, TYPE_GETTER_ANNOTATIONS) == Boolean.TRUE;
+    }
+
+    /**
+     * @param modifiers
+     *            The modifiers of a field declaration within a syntax tree
+     * @return True if the field's annotations generate a getter, false if they suppress one, or null if the field's
+     *         annotations do not affect generation
+     */
+    public Boolean isGeneratedForField(List<?> modifiers) {
+        return getGeneration(modifiers, FIELD_GETTER_ANNOTATIONS);
+    }
+
+    /**
+     * Determines the getter Lombok generates for a field, if any
+     *
+     * @param fieldName
+     *            The name of the field
+     * @param typeSignature
+     *            The type signature of the field
+     * @param flags
+     *            The modifier flags of the field
+     * @param typeGenerated
+     *            True if the declaring type's annotations generate getters
+     * @param fieldGenerated
+     *            True or false if the field's annotations generate or suppress a getter, or null if they do not affect
+     *            generation
+     * @return The name of the generated getter, or null if no getter is generated
+     */
+    public static String getGeneratedGetter(String fieldName, String typeSignature, int flags, boolean typeGenerated,
+            Boolean fieldGenerated) {
+        Objects.requireNonNull(fieldName);
+        Objects.requireNonNull(typeSignature);
+
+        boolean generated = (fieldGenerated != null ? fieldGenerated : typeGenerated && !Flags.isStatic(flags));
+
+        return (generated ? getGetterName(fieldName, typeSignature) : null);
+    }
+
+    /**
+     * Follows Lombok's naming - primitive booleans use an "is" prefix, unless the field name already has one
+     *
+     * @param fieldName
+     *            The name of the field
+     * @param typeSignature
+     *            The type signature of the field
+     * @return The name of the getter Lombok generates for the field
+     */
+    private static String getGetterName(String fieldName, String typeSignature) {
+        String result = null;
+
+        if ("Z".equals(typeSignature) && fieldName.length() > 2 && fieldName.startsWith("is")
+                && Character.isUpperCase(fieldName.charAt(2))) {
+            result = fieldName;
+        } else {
+            String prefix = ("Z".equals(typeSignature) ? "is" : "get");
+
+            result = prefix + Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+        }
+
+        return result;
+    }
+
+    private Boolean getGeneration(IAnnotation[] annotations, Set<String> annotationNames, AtomicInteger modelCalls)
+            throws JavaModelException {
+        Objects.requireNonNull(annotations);
+        Objects.requireNonNull(modelCalls);
+
+        Boolean result = null;
+
+        for (IAnnotation annotation : annotations) {
+            if (isRecognized(annotation.getElementName(), annotationNames)) {
+                IMemberValuePair[] pairs = annotation.getMemberValuePairs();
+                modelCalls.incrementAndGet();
+
+                result = !isAccessLevelNone(pairs);
+            }
+        }
+
+        return result;
+    }
+
+    private Boolean getGeneration(List<?> modifiers, Set<String> annotationNames) {
+        Objects.requireNonNull(modifiers);
+
+        Boolean result = null;
+
+        for (Object modifier : modifiers) {
+            if (modifier instanceof Annotation
+                    && isRecognized(((Annotation) modifier).getTypeName().getFullyQualifiedName(), annotationNames)) {
+                result = !isAccessLevelNone((Annotation) modifier);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * @param annotationName
+     *            The name of an annotation, as written in source
+     * @param annotationNames
+     *            The simple names of the Lombok annotations to recognize
+     * @return True if the name refers to one of the Lombok annotations
+     */
+    private boolean isRecognized(String annotationName, Set<String> annotationNames) {
+        boolean result = false;
+
+        if (annotationName.startsWith(LOMBOK_PACKAGE_PREFIX)) {
+            result = annotationNames.contains(annotationName.substring(LOMBOK_PACKAGE_PREFIX.length()));
+        } else {
+            result = annotationNames.contains(annotationName) && importedNames.contains(annotationName);
+        }
+
+        return result;
+    }
+
+    /**
+     * @param pairs
+     *            The member values of an annotation read from the Java model
+     * @return True if the annotation's value is the "NONE" access level, written as a simple or qualified name
+     */
+    private static boolean isAccessLevelNone(IMemberValuePair[] pairs) {
+        boolean result = false;
+
+        for (IMemberValuePair pair : pairs) {
+            int kind = pair.getValueKind();
+
+            if (VALUE_MEMBER.equals(pair.getMemberName())
+                    && (kind == IMemberValuePair.K_QUALIFIED_NAME || kind == IMemberValuePair.K_SIMPLE_NAME)
+                    && pair.getValue() instanceof String) {
+                String name = (String) pair.getValue();
+
+                result = ACCESS_LEVEL_NONE.equals(name.substring(name.lastIndexOf('.') + 1));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * @param annotation
+     *            An annotation within a syntax tree
+     * @return True if the annotation's value is the "NONE" access level, written as a simple or qualified name
+     */
+    private static boolean isAccessLevelNone(Annotation annotation) {
+        Expression value = null;
+
+        if (annotation.isSingleMemberAnnotation()) {
+            value = ((SingleMemberAnnotation) annotation).getValue();
+        } else if (annotation.isNormalAnnotation()) {
+            for (Object pair : ((NormalAnnotation) annotation).values()) {
+                if (VALUE_MEMBER.equals(((MemberValuePair) pair).getName().getIdentifier())) {
+                    value = ((MemberValuePair) pair).getValue();
+                }
+            }
+        }
+
+        return value instanceof Name && ACCESS_LEVEL_NONE.equals(getIdentifier((Name) value));
+    }
+
+    private static String getIdentifier(Name name) {
+        return (name.isQualifiedName() ? ((QualifiedName) name).getName().getIdentifier()
+                : ((SimpleName) name).getIdentifier());
+    }
+
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.model;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.core.IAnnotation;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+
+/**
+ * Flat, array-backed copy of the member information of a single type needed to find its bean fields
+ *
+ * <p>
+ * Snapshots are read in a single pass over a type's members, after which bean field matching uses only the snapshot.
+ * This bounds the Java model reads per type to one for the member list plus a fixed number per relevant member, and
+ * allows the same matching to be applied to members read from a syntax tree. Only methods without parameters are
+ * recorded, as no other method can be a getter
+ *
+ * <p>
+ * Each Java model call which reads element information is counted as it is made, and reported with the snapshot
+ *
+ * <p>
+ * Member reads for types with very many members, such as generated persistence classes, may be split across threads
+ * by a {@link ParallelScanner}
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+final class MemberSnapshot {
+
+    private final String[] fieldNames;
+
+    private final String[] fieldTypeSignatures;
+
+    private final int[] fieldFlags;
+
+    private final String[][] fieldAnnotations;
+
+    private final String[] generatedGetters;
+
+    private final String[] methodNames;
+
+    private final int[] methodFlags;
+
+    private final int modelCalls;
+
+    /**
+     * @param fieldNames
+     *            Names of the type's fields, in declaration order
+     * @param fieldTypeSignatures
+     *            Type signatures of the type's fields, in resolved or unresolved form
+     * @param fieldFlags
+     *            Modifier flags of the type's fields
+     * @param fieldAnnotations
+     *            Names of the annotations of the type's fields, as written in source or fully qualified if binary
+     * @param generatedGetters
+     *            Names of getters generated at compile time for the type's fields, such as by Lombok annotations, with
+     *            null for fields without one
+     * @param methodNames
+     *            Names of the type's methods which take no parameters
+     * @param methodFlags
+     *            Modifier flags of the type's methods which take no parameters
+     * @param modelCalls
+     *            The number of Java model calls which read element information to build the snapshot
+     */
+    MemberSnapshot(String[] fieldNames, String[] fieldTypeSignatures, int[] fieldFlags, String[][] fieldAnnotations,
+            String[] generatedGetters, String[] methodNames, int[] methodFlags, int modelCalls) {
+        this.fieldNames = Objects.requireNonNull(fieldNames);
+        this.fieldTypeSignatures = Objects.requireNonNull(fieldTypeSignatures);
+        this.fieldFlags = Objects.requireNonNull(fieldFlags);
+        this.fieldAnnotations = Objects.requireNonNull(fieldAnnotations);
+        this.generatedGetters = Objects.requireNonNull(generatedGetters);
+        this.methodNames = Objects.requireNonNull(methodNames);
+        this.methodFlags = Objects.requireNonNull(methodFlags);
+        this.modelCalls = modelCalls;
+    }
+
+    /**
+     * Reads the members of a type from the Java model in a single pass
+     *
+     * @param type
+     *            The type to read
+     * @param scanner
+     *            Applies member reads, in parallel for types with many members
+     * @return A snapshot of the type's fields and parameterless methods
+     * @throws JavaModelException
+     *             If there is an error reading Java model information from the type
+     */
+    public static MemberSnapshot read(IType type, ParallelScanner scanner) throws JavaModelException {
+        Objects.requireNonNull(type);
+        Objects.requireNonNull(scanner);
+
+        // Counted from every thread reads are split across
+        AtomicInteger modelCalls = new AtomicInteger();
+
+        // One read of the type's element information provides handles to all of its members
+        IJavaElement[] children = type.getChildren();
+        modelCalls.incrementAndGet();
+        int[] slots = new int[children.length];
+        int fieldCount = 0;
+        int methodCount = 0;
+
+        // Element type and parameter count are part of member handles, so do not require reading element information
+        for (int i = 0; i < children.length; i++) {
+            if (children[i].getElementType() == IJavaElement.FIELD) {
+                slots[i] = fieldCount++;
+            } else if (isParameterlessMethod(children[i])) {
+                slots[i] = methodCount++;
+            } else {
+                slots[i] = -1;
+            }
+        }
+
+        // Annotations which generate getters have source retention, so are only present on source types
+        ICompilationUnit unit = type.getCompilationUnit();
+        boolean source = !type.isBinary() && unit != null;
+        LombokAccessors lombok = (source ? LombokAccessors.forUnit(unit, modelCalls) : null);
+        boolean typeGenerated = source && isGeneratedForType(type, lombok, modelCalls);
+
+        String[] fieldNames = new String[fieldCount];
+        String[] fieldTypeSignatures = new String[fieldCount];
+        int[] fieldFlags = new int[fieldCount];
+        String[][] fieldAnnotations = new String[fieldCount][];
+        String[] generatedGetters = new String[fieldCount];
+        String[] methodNames = new String[methodCount];
+        int[] methodFlags = new int[methodCount];
+
+        // Each member is written to its own pre-assigned slot, so declaration order holds however reads are scheduled
+        scanner.forEach(children.length, i -> {
+            IJavaElement child = children[i];
+            int slot = slots[i];
+
+            if (child.getElementType() == IJavaElement.FIELD) {
+                fieldNames[slot] = child.getElementName();
+                fieldTypeSignatures[slot] = ((IField) child).getTypeSignature();
+                fieldFlags[slot] = ((IField) child).getFlags();
+                IAnnotation[] annotations = ((IField) child).getAnnotations();
+                modelCalls.addAndGet(3);
+
+                fieldAnnotations[slot] = getAnnotationNames(annotations);
+
+                if (source) {
+                    generatedGetters[slot] = LombokAccessors.getGeneratedGetter(fieldNames[slot],
+                            fieldTypeSignatures[slot], fieldFlags[slot], typeGenerated,
+                            lombok.isGeneratedForField(annotations, modelCalls));
+                }
+            } else if (slot >= 0) {
+                methodNames[slot] = child.getElementName();
+                methodFlags[slot] = ((IMethod) child).getFlags();
+                modelCalls.incrementAndGet();
+            }
+        });
+
+        return new MemberSnapshot(fieldNames, fieldTypeSignatures, fieldFlags, fieldAnnotations, generatedGetters,
+                methodNames, methodFlags, modelCalls.get());
+    }
+
+    /**
+     * @param annotations
+     *            The annotations of a field
+     * @return The names of the annotations, as written in source or fully qualified if binary
+     */
+    static String[] getAnnotationNames(IAnnotation[] annotations) {
+        String[] result = new String[annotations.length];
+
+        for (int i = 0; i < annotations.length; i++) {
+            result[i] = annotations[i].getElementName();
+        }
+
+        return result;
+    }
+
+    private static boolean isGeneratedForType(IType type, LombokAccessors lombok, AtomicInteger modelCalls)
+            throws JavaModelException {
+        IAnnotation[] annotations = type.getAnnotations();
+        modelCalls.incrementAndGet();
+
+        return lombok.isGeneratedForType(annotations, modelCalls);
+    }
+
+    private static boolean isParameterlessMethod(IJavaElement element) {
+        return element.getElementType() == IJavaElement.METHOD && ((IMethod) element).getNumberOfParameters() == 0;
+    }
+
+    public int getFieldCount() {
+        return fieldNames.length;
+    }
+
+    public String getFieldName(int index) {
+        return fieldNames[index];
+    }
+
+    public String getFieldTypeSignature(int index) {
+        return fieldTypeSignatures[index];
+    }
+
+    public int getFieldFlags(int index) {
+        return fieldFlags[index];
+    }
+
+    public String[] getFieldAnnotations(int index) {
+        return fieldAnnotations[index];
+    }
+
+    /**
+     * @param index
+     *            The index of the field
+     * @return The name of the getter generated at compile time for the field, or null if there is none
+     */
+    public String getGeneratedGetter(int index) {
+        return generatedGetters[index];
+    }
+
+    public int getMethodCount() {
+        return methodNames.length;
+    }
+
+    public String getMethodName(int index) {
+        return methodNames[index];
+    }
+
+    public int getMethodFlags(int index) {
+        return methodFlags[index];
+    }
+
+    /**
+     * @return The number of Java model calls which read element information to build the snapshot
+     */
+    public int getModelCalls() {
+        return modelCalls;
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.model;
+
+import java.util.Objects;
+
+/**
+ * Describes one convention used to match fields to their accessor methods
+ *
+ * <p>
+ * Strategies are not applied individually - a set of strategies is compiled into an {@link AccessorNaming}, which
+ * matches fields against all of them at once
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+public final class NamingStrategy {
+
+    /**
+     * The forms of naming convention which may be described
+     *
+     * @author romeara
+     * @since 0.2.0
+     */
+    public enum Kind {
+
+        /** Accessors named with a prefix followed by the capitalized field name, such as "getName" */
+        ACCESSOR_PREFIX,
+
+        /** As {@link #ACCESSOR_PREFIX}, but only matched to boolean fields, such as "isActive" */
+        BOOLEAN_ACCESSOR_PREFIX,
+
+        /** Accessors named exactly as the field, such as "name" */
+        FLUENT_ACCESSOR,
+
+        /** A prefix of field names which is not part of the accessor name, such as "m" in "mName" */
+        FIELD_PREFIX;
+
+    }
+
+    private final Kind kind;
+
+    private final String prefix;
+
+    private NamingStrategy(Kind kind, String prefix) {
+        this.kind = Objects.requireNonNull(kind);
+        this.prefix = Objects.requireNonNull(prefix);
+    }
+
+    /**
+     * @param prefix
+     *            The prefix of accessor method names, such as "get"
+     * @return A strategy which matches accessors named with the prefix for fields of any type
+     */
+    public static NamingStrategy accessorPrefix(String prefix) {
+        return new NamingStrategy(Kind.ACCESSOR_PREFIX, requireNonEmpty(prefix));
+    }
+
+    /**
+     * @param prefix
+     *            The prefix of accessor method names, such as "is"
+     * @return A strategy which matches accessors named with the prefix for boolean fields only
+     */
+    public static NamingStrategy booleanAccessorPrefix(String prefix) {
+        return new NamingStrategy(Kind.BOOLEAN_ACCESSOR_PREFIX, requireNonEmpty(prefix));
+    }
+
+    /**
+     * @return A strategy which matches accessors named exactly as the field
+     */
+    public static NamingStrategy fluentAccessor() {
+        return new NamingStrategy(Kind.FLUENT_ACCESSOR, "");
+    }
+
+    /**
+     * @param prefix
+     *            The prefix of field names, such as "m" or "_"
+     * @return A strategy which ignores the prefix on field names when matching accessors
+     */
+    public static NamingStrategy fieldPrefix(String prefix) {
+        return new NamingStrategy(Kind.FIELD_PREFIX, requireNonEmpty(prefix));
+    }
+
+    /**
+     * @return The form of naming convention described
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return The method or field name prefix of the convention, or an empty string for fluent accessors
+     */
+    public String getPrefix() {
+        return prefix;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, prefix);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        boolean result = false;
+
+        if (obj instanceof NamingStrategy) {
+            NamingStrategy compare = (NamingStrategy) obj;
+
+            result = Objects.equals(kind, compare.kind)
+                    && Objects.equals(prefix, compare.prefix);
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return kind + "(" + prefix + ")";
+    }
+
+    private static String requireNonEmpty(String prefix) {
+        Objects.requireNonNull(prefix);
+
+        if (prefix.isEmpty()) {
+            throw new IllegalArgumentException("Naming strategy prefixes may not be empty");
+        }
+
+        return prefix;
+    }
+
+}
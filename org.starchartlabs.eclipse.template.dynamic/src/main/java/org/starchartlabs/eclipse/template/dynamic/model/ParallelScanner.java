@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.model;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntSupplier;
+
+import org.eclipse.jdt.core.JavaModelException;
+
+/**
+ * Applies an operation to each index of a range, splitting large ranges into chunks processed in parallel
+ *
+ * <p>
+ * Parallel processing only applies to ranges at or above a threshold, so that small types never pay for task
+ * scheduling. Operations write results to their own index, so declaration order is kept without any merge step
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+public class ParallelScanner {
+
+    private static final int CHUNK_SIZE = 256;
+
+    /**
+     * Represents an operation applied to a single index of a range
+     *
+     * @author romeara
+     * @since 0.2.0
+     */
+    @FunctionalInterface
+    public interface IndexedOperation {
+
+        /**
+         * @param index
+         *            The index to process
+         * @throws JavaModelException
+         *             If there is an error reading Java model information
+         */
+        void apply(int index) throws JavaModelException;
+
+    }
+
+    private final ForkJoinPool pool;
+
+    private final IntSupplier threshold;
+
+    /**
+     * @param pool
+     *            The pool to process chunks on. Callers are responsible for bounding its parallelism and shutting it
+     *            down
+     * @param threshold
+     *            Supplies the minimum range size to process in parallel. Values of zero or less disable parallel
+     *            processing
+     */
+    public ParallelScanner(ForkJoinPool pool, IntSupplier threshold) {
+        this.pool = Objects.requireNonNull(pool);
+        this.threshold = Objects.requireNonNull(threshold);
+    }
+
+    /**
+     * Applies an operation to every index from zero up to, but not including, a count
+     *
+     * @param count
+     *            The number of indexes to process
+     * @param operation
+     *            The operation to apply. Must be safe to call concurrently for different indexes
+     * @throws JavaModelException
+     *             If the operation fails for any index
+     */
+    public void forEach(int count, IndexedOperation operation) throws JavaModelException {
+        Objects.requireNonNull(operation);
+
+        int minimum = threshold.getAsInt();
+
+        if (minimum <= 0 || count < minimum || pool.isShutdown()) {
+            for (int i = 0; i < count; i++) {
+                operation.apply(i);
+            }
+        } else {
+            try {
+                pool.invoke(new ChunkAction(operation, 0, count));
+            } catch (ModelFailure e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    /**
+     * Processes a range of indexes, splitting it in half until chunks are small enough to process directly
+     *
+     * @author romeara
+     * @since 0.2.0
+     */
+    private static final class ChunkAction extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final IndexedOperation operation;
+
+        private final int start;
+
+        private final int end;
+
+        public ChunkAction(IndexedOperation operation, int start, int end) {
+            this.operation = Objects.requireNonNull(operation);
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= CHUNK_SIZE) {
+                try {
+                    for (int i = start; i < end; i++) {
+                        operation.apply(i);
+                    }
+                } catch (JavaModelException e) {
+                    throw new ModelFailure(e);
+                }
+            } else {
+                int middle = (start + end) >>> 1;
+
+                invokeAll(new ChunkAction(operation, start, middle), new ChunkAction(operation, middle, end));
+            }
+        }
+
+    }
+
+    /**
+     * Carries a Java model failure out of a fork-join task, which may not throw checked exceptions
+     *
+     * @author romeara
+     * @since 0.2.0
+     */
+    private static final class ModelFailure extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        public ModelFailure(JavaModelException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized JavaModelException getCause() {
+            return (JavaModelException) super.getCause();
+        }
+
+    }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.model;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Broad categories of field types, which commonly require different code to compare, copy, or hash
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+public enum TypeCategory {
+
+    /** Primitive types, such as int and boolean */
+    PRIMITIVE("primitive"),
+
+    /** Wrappers of primitive types, such as Integer and Boolean */
+    BOXED("boxed"),
+
+    /** Array types of any element type */
+    ARRAY("array"),
+
+    /** Collection and map types from java.util, such as List and Map */
+    COLLECTION("collection"),
+
+    /** Any other reference type, including type variables */
+    REFERENCE("reference");
+
+    private static final String JAVA_LANG_PACKAGE = "java.lang.";
+
+    private static final String JAVA_UTIL_PACKAGE = "java.util.";
+
+    private static final Set<String> BOXED_TYPE_NAMES = Stream.of("Boolean", "Byte", "Character", "Short", "Integer",
+            "Long", "Float", "Double")
+            .collect(Collectors.toSet());
+
+    private static final Set<String> COLLECTION_TYPE_NAMES = Stream.of("Collection", "List", "Set", "SortedSet",
+            "NavigableSet", "Queue", "Deque", "Map", "SortedMap", "NavigableMap", "ArrayList", "LinkedList", "HashSet",
+            "LinkedHashSet", "TreeSet", "EnumSet", "ArrayDeque", "PriorityQueue", "HashMap", "LinkedHashMap", "TreeMap",
+            "EnumMap", "IdentityHashMap", "WeakHashMap")
+            .collect(Collectors.toSet());
+
+    private final String key;
+
+    private TypeCategory(String key) {
+        this.key = Objects.requireNonNull(key);
+    }
+
+    /**
+     * @return The name used to refer to this category in variable options
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Determines the category of a type directly from its signature, without decoding it. Types read from source are
+     * named as written, so unqualified names are categorized by simple name alone
+     *
+     * @param typeSignature
+     *            A type signature, in resolved or unresolved form
+     * @return The category of the type
+     */
+    public static TypeCategory of(String typeSignature) {
+        Objects.requireNonNull(typeSignature);
+
+        TypeCategory result = null;
+        char kind = (typeSignature.isEmpty() ? 'V' : typeSignature.charAt(0));
+
+        switch (kind) {
+        case 'B':
+        case 'C':
+        case 'D':
+        case 'F':
+        case 'I':
+        case 'J':
+        case 'S':
+        case 'Z':
+            result = PRIMITIVE;
+            break;
+        case '[':
+            result = ARRAY;
+            break;
+        case 'L':
+        case 'Q':
+            result = ofClassType(typeSignature);
+            break;
+        default:
+            result = REFERENCE;
+        }
+
+        return result;
+    }
+
+    private static TypeCategory ofClassType(String typeSignature) {
+        int end = 1;
+
+        while (end < typeSignature.length() && typeSignature.charAt(end) != '<' && typeSignature.charAt(end) != ';') {
+            end++;
+        }
+
+        String name = typeSignature.substring(1, end);
+        int simpleNameStart = name.lastIndexOf('.') + 1;
+        String simpleName = name.substring(simpleNameStart);
+        boolean qualified = simpleNameStart > 0;
+
+        TypeCategory result = REFERENCE;
+
+        if (BOXED_TYPE_NAMES.contains(simpleName) && (!qualified || isInPackage(name, JAVA_LANG_PACKAGE))) {
+            result = BOXED;
+        } else if (COLLECTION_TYPE_NAMES.contains(simpleName) && (!qualified || isInPackage(name, JAVA_UTIL_PACKAGE))) {
+            result = COLLECTION;
+        }
+
+        return result;
+    }
+
+    private static boolean isInPackage(String qualifiedName, String packagePrefix) {
+        return qualifiedName.lastIndexOf('.') + 1 == packagePrefix.length() && qualifiedName.startsWith(packagePrefix);
+    }
+
+}
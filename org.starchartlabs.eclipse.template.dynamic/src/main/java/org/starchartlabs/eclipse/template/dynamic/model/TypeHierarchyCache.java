@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.model;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+import org.eclipse.jdt.core.ITypeHierarchyChangedListener;
+import org.eclipse.jdt.core.JavaModelException;
+
+/**
+ * Bounded cache of supertype hierarchies, keyed by the handle identifier of the type each hierarchy was created for
+ *
+ * <p>
+ * Building a type hierarchy is one of the most expensive Java model operations, so hierarchies are kept and listened
+ * to for changes rather than rebuilt per use. A hierarchy reported as changed is refreshed the next time it is
+ * requested. Hierarchies evicted from the cache stop being listened to
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+public class TypeHierarchyCache implements ITypeHierarchyChangedListener {
+
+    private static final int DEFAULT_CAPACITY = 32;
+
+    private final Map<String, ITypeHierarchy> hierarchies;
+
+    private final Set<ITypeHierarchy> staleHierarchies = Collections.synchronizedSet(
+            Collections.newSetFromMap(new IdentityHashMap<>()));
+
+    public TypeHierarchyCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity
+     *            The maximum number of hierarchies to keep. Each kept hierarchy listens to all Java model changes, so
+     *            this should remain small
+     */
+    public TypeHierarchyCache(int capacity) {
+        hierarchies = new LinkedHashMap<String, ITypeHierarchy>(capacity, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ITypeHierarchy> eldest) {
+                boolean remove = size() > capacity;
+
+                if (remove) {
+                    release(eldest.getValue());
+                }
+
+                return remove;
+            }
+
+        };
+    }
+
+    /**
+     * Finds the superclasses of a type, from the most specific to the least
+     *
+     * <p>
+     * Hierarchies are built and refreshed outside of the cache's lock, so that requests for other types are not held
+     * up by an expensive build
+     *
+     * @param type
+     *            The type to find superclasses of
+     * @return The superclasses of the type, ordered from the direct superclass upward
+     * @throws JavaModelException
+     *             If there is an error building or refreshing the type's hierarchy
+     */
+    public IType[] getAllSuperclasses(IType type) throws JavaModelException {
+        Objects.requireNonNull(type);
+
+        String key = type.getHandleIdentifier();
+        ITypeHierarchy hierarchy = null;
+
+        synchronized (this) {
+            hierarchy = hierarchies.get(key);
+        }
+
+        if (hierarchy == null) {
+            ITypeHierarchy created = type.newSupertypeHierarchy(null);
+            created.addTypeHierarchyChangedListener(this);
+
+            synchronized (this) {
+                // Keep the hierarchy of any concurrent build, so that all callers share one listened-to copy
+                hierarchy = hierarchies.putIfAbsent(key, created);
+            }
+
+            if (hierarchy != null) {
+                release(created);
+            } else {
+                hierarchy = created;
+            }
+        }
+
+        IType[] result = null;
+
+        // Hierarchies are not safe for concurrent refresh and reads, so each is guarded by its own lock
+        synchronized (hierarchy) {
+            if (staleHierarchies.remove(hierarchy)) {
+                // Refresh is cheaper than a rebuild, as it re-uses the existing hierarchy's information where it can
+                hierarchy.refresh(null);
+            }
+
+            result = hierarchy.getAllSuperclasses(type);
+        }
+
+        return result;
+    }
+
+    /**
+     * Releases all cached hierarchies
+     */
+    public synchronized void clear() {
+        hierarchies.values().forEach(this::release);
+        hierarchies.clear();
+    }
+
+    @Override
+    public void typeHierarchyChanged(ITypeHierarchy typeHierarchy) {
+        staleHierarchies.add(typeHierarchy);
+    }
+
+    private void release(ITypeHierarchy hierarchy) {
+        hierarchy.removeTypeHierarchyChangedListener(this);
+        staleHierarchies.remove(hierarchy);
+    }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.jdt.core.Signature;
+
+/**
+ * Bounded cache of the readable forms of type signatures, shared between resolutions
+ *
+ * <p>
+ * Decoding a signature requires parsing it, and generated types tend to declare thousands of fields with the same few
+ * dozen types. Each distinct signature is decoded once into a single shared {@link TypeNames} instance, which is
+ * retained while the signature remains among the most recently used
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+public class TypeSignatureCache {
+
+    private static final int DEFAULT_CAPACITY = 1_024;
+
+    private final Map<String, TypeNames> entries;
+
+    public TypeSignatureCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity
+     *            The maximum number of decoded signatures to keep
+     */
+    public TypeSignatureCache(int capacity) {
+        entries = new LinkedHashMap<String, TypeNames>(capacity, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TypeNames> eldest) {
+                return size() > capacity;
+            }
+
+        };
+    }
+
+    /**
+     * @param typeSignature
+     *            A type signature, in resolved or unresolved form
+     * @return The readable forms of the type
+     */
+    public TypeNames get(String typeSignature) {
+        Objects.requireNonNull(typeSignature);
+
+        TypeNames result = null;
+
+        synchronized (this) {
+            result = entries.get(typeSignature);
+        }
+
+        if (result == null) {
+            result = TypeNames.decode(typeSignature);
+
+            synchronized (this) {
+                // Keep the instance of any concurrent decode, so that all callers share one copy
+                TypeNames existing = entries.putIfAbsent(typeSignature, result);
+                result = (existing != null ? existing : result);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Removes all decoded signatures from the cache
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * The readable forms of a type signature
+     *
+     * @author romeara
+     * @since 0.2.0
+     */
+    public static final class TypeNames {
+
+        private final String type;
+
+        private final String simpleType;
+
+        private final String erasure;
+
+        private TypeNames(String type, String simpleType, String erasure) {
+            this.type = Objects.requireNonNull(type);
+            this.simpleType = Objects.requireNonNull(simpleType);
+            this.erasure = Objects.requireNonNull(erasure);
+        }
+
+        private static TypeNames decode(String typeSignature) {
+            TypeNames result = null;
+
+            // Fields provided without type information have an empty signature, which is rendered as-is
+            if (typeSignature.isEmpty()) {
+                result = new TypeNames(typeSignature, typeSignature, typeSignature);
+            } else {
+                try {
+                    String type = Signature.toString(typeSignature);
+                    String erasure = Signature.toString(Signature.getTypeErasure(typeSignature));
+
+                    // Non-generic types are their own erasure, and need not be held twice
+                    result = new TypeNames(type, Signature.getSimpleName(type),
+                            (erasure.equals(type) ? type : erasure));
+                } catch (IllegalArgumentException e) {
+                    // Malformed signatures are rendered as-is rather than failing the whole template
+                    result = new TypeNames(typeSignature, typeSignature, typeSignature);
+                }
+            }
+
+            return result;
+        }
+
+        /**
+         * @return The type as declared, including any type arguments, such as "java.util.List&lt;java.lang.String&gt;".
+         *         Types read from source are named as written
+         */
+        public String getType() {
+            return type;
+        }
+
+        /**
+         * @return The type without package qualification, such as "List&lt;String&gt;"
+         */
+        public String getSimpleType() {
+            return simpleType;
+        }
+
+        /**
+         * @return The type without type arguments, such as "java.util.List"
+         */
+        public String getErasure() {
+            return erasure;
+        }
+
+    }
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.preferences;
+
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.jface.preference.BooleanFieldEditor;
+import org.eclipse.jface.preference.FieldEditorPreferencePage;
+import org.eclipse.jface.preference.IntegerFieldEditor;
+import org.eclipse.jface.preference.StringFieldEditor;
+import org.eclipse.ui.IWorkbench;
+import org.eclipse.ui.IWorkbenchPreferencePage;
+import org.eclipse.ui.preferences.ScopedPreferenceStore;
+import org.starchartlabs.eclipse.template.dynamic.DynamicTemplatesPlugin;
+
+/**
+ * Preference page for configuring how dynamic template variables are resolved
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+public class DynamicTemplatesPreferencePage extends FieldEditorPreferencePage implements IWorkbenchPreferencePage {
+
+    public DynamicTemplatesPreferencePage() {
+        super(GRID);
+    }
+
+    @Override
+    public void init(IWorkbench workbench) {
+        setPreferenceStore(new ScopedPreferenceStore(InstanceScope.INSTANCE, DynamicTemplatesPlugin.PLUGIN_ID));
+        setDescription("Settings for dynamic Java code template variables, such as enclosed_bean_fields");
+    }
+
+    @Override
+    protected void createFieldEditors() {
+        addField(new BooleanFieldEditor(PreferenceConstants.SYNTAX_TREE_FOR_UNSAVED,
+                "Parse fields from the editor's current contents when the file has unreconciled changes",
+                getFieldEditorParent()));
+        addField(new BooleanFieldEditor(PreferenceConstants.PREWARM_ON_EDITOR_ACTIVATION,
+                "Analyze bean fields in the background when a Java editor is activated",
+                getFieldEditorParent()));
+
+        IntegerFieldEditor parallelScanThreshold = new IntegerFieldEditor(PreferenceConstants.PARALLEL_SCAN_THRESHOLD,
+                "Minimum member count to read type members in parallel (0 to disable):", getFieldEditorParent());
+        parallelScanThreshold.setValidRange(0, Integer.MAX_VALUE);
+        addField(parallelScanThreshold);
+
+        addField(new StringFieldEditor(PreferenceConstants.ACCESSOR_PREFIXES, "Getter prefixes (comma-separated):",
+                getFieldEditorParent()));
+        addField(new StringFieldEditor(PreferenceConstants.BOOLEAN_ACCESSOR_PREFIXES,
+                "Boolean getter prefixes (comma-separated):", getFieldEditorParent()));
+        addField(new BooleanFieldEditor(PreferenceConstants.FLUENT_ACCESSORS,
+                "Match fluent accessors named exactly as the field", getFieldEditorParent()));
+        addField(new StringFieldEditor(PreferenceConstants.FIELD_PREFIXES,
+                "Field name prefixes to ignore (comma-separated):", getFieldEditorParent()));
+    }
+
+}
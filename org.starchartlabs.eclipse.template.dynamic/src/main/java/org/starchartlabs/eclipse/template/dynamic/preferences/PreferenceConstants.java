@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.preferences;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.Platform;
+import org.starchartlabs.eclipse.template.dynamic.DynamicTemplatesPlugin;
+
+/**
+ * Keys and accessors for the preferences of the dynamic templates plug-in
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+public final class PreferenceConstants {
+
+    /**
+     * Whether bean fields of compilation units with unreconciled changes are read from a syntax tree instead of the
+     * Java model
+     */
+    public static final String SYNTAX_TREE_FOR_UNSAVED = "syntaxTreeForUnsaved";
+
+    /**
+     * Whether bean fields of the types in a Java editor are read in the background when the editor is activated.
+     * Changes take effect immediately
+     */
+    public static final String PREWARM_ON_EDITOR_ACTIVATION = "prewarmOnEditorActivation";
+
+    /**
+     * The minimum number of members a type must have for its members to be read in parallel. Zero disables parallel
+     * reads
+     */
+    public static final String PARALLEL_SCAN_THRESHOLD = "parallelScanThreshold";
+
+    public static final int DEFAULT_PARALLEL_SCAN_THRESHOLD = 2_000;
+
+    /**
+     * Comma-separated prefixes of accessor method names matched to fields of any type, in order of precedence
+     */
+    public static final String ACCESSOR_PREFIXES = "accessorPrefixes";
+
+    public static final String DEFAULT_ACCESSOR_PREFIXES = "get";
+
+    /**
+     * Comma-separated prefixes of accessor method names matched only to boolean fields, in order of precedence
+     */
+    public static final String BOOLEAN_ACCESSOR_PREFIXES = "booleanAccessorPrefixes";
+
+    public static final String DEFAULT_BOOLEAN_ACCESSOR_PREFIXES = "is";
+
+    /**
+     * Whether methods named exactly as a field are matched as its accessor, after any prefixed accessors
+     */
+    public static final String FLUENT_ACCESSORS = "fluentAccessors";
+
+    /**
+     * Comma-separated prefixes of field names which are not part of accessor names, such as "m" or "_"
+     */
+    public static final String FIELD_PREFIXES = "fieldPrefixes";
+
+    /**
+     * Prevent instantiation of utility class
+     */
+    private PreferenceConstants() {
+    }
+
+    /**
+     * @param key
+     *            The preference to read
+     * @param defaultValue
+     *            The value to use if the preference is not set
+     * @return The current value of the preference
+     */
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        return Platform.getPreferencesService().getBoolean(DynamicTemplatesPlugin.PLUGIN_ID, key, defaultValue, null);
+    }
+
+    /**
+     * @param key
+     *            The preference to read
+     * @param defaultValue
+     *            The value to use if the preference is not set
+     * @return The current value of the preference
+     */
+    public static int getInt(String key, int defaultValue) {
+        return Platform.getPreferencesService().getInt(DynamicTemplatesPlugin.PLUGIN_ID, key, defaultValue, null);
+    }
+
+    /**
+     * @param key
+     *            The preference to read
+     * @param defaultValue
+     *            The value to use if the preference is not set
+     * @return The current value of the preference
+     */
+    public static String getString(String key, String defaultValue) {
+        return Platform.getPreferencesService().getString(DynamicTemplatesPlugin.PLUGIN_ID, key, defaultValue, null);
+    }
+
+    /**
+     * Reads a preference holding a comma-separated list of values
+     *
+     * @param key
+     *            The preference to read
+     * @param defaultValue
+     *            The value to use if the preference is not set
+     * @return The non-empty values of the preference, with surrounding whitespace removed
+     */
+    public static List<String> getList(String key, String defaultValue) {
+        return Stream.of(getString(key, defaultValue).split(","))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.preferences;
+
+import org.eclipse.core.runtime.preferences.AbstractPreferenceInitializer;
+import org.eclipse.core.runtime.preferences.DefaultScope;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.starchartlabs.eclipse.template.dynamic.DynamicTemplatesPlugin;
+
+/**
+ * Sets the default values of the dynamic templates plug-in's preferences
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+public class PreferenceInitializer extends AbstractPreferenceInitializer {
+
+    @Override
+    public void initializeDefaultPreferences() {
+        IEclipsePreferences defaults = DefaultScope.INSTANCE.getNode(DynamicTemplatesPlugin.PLUGIN_ID);
+
+        defaults.putBoolean(PreferenceConstants.SYNTAX_TREE_FOR_UNSAVED, true);
+        defaults.putBoolean(PreferenceConstants.PREWARM_ON_EDITOR_ACTIVATION, false);
+        defaults.putInt(PreferenceConstants.PARALLEL_SCAN_THRESHOLD,
+                PreferenceConstants.DEFAULT_PARALLEL_SCAN_THRESHOLD);
+        defaults.put(PreferenceConstants.ACCESSOR_PREFIXES, PreferenceConstants.DEFAULT_ACCESSOR_PREFIXES);
+        defaults.put(PreferenceConstants.BOOLEAN_ACCESSOR_PREFIXES,
+                PreferenceConstants.DEFAULT_BOOLEAN_ACCESSOR_PREFIXES);
+        defaults.putBoolean(PreferenceConstants.FLUENT_ACCESSORS, false);
+        defaults.put(PreferenceConstants.FIELD_PREFIXES, "");
+    }
+
+}
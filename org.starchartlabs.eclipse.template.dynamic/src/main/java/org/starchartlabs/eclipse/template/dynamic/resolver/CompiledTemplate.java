@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.resolver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Template text which has been split once into literal and placeholder segments, so that it may be rendered
+ * repeatedly without re-scanning or regular expression processing
+ *
+ * <p>
+ * Placeholders take the form ${placeholder}. Placeholders which are not supported by the compiled template are
+ * preserved as literal text. Substituted values are inserted as-is, so characters such as '$' and '\' have no special
+ * meaning within them
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+final class CompiledTemplate {
+
+    /**
+     * Represents the placeholders which may be substituted within a template
+     *
+     * @author romeara
+     * @since 0.2.0
+     */
+    enum Placeholder {
+        NAME("name"),
+        GETTER("getter"),
+        TYPE("type"),
+        SIMPLE_TYPE("simpleType"),
+        ERASURE("erasure"),
+        GETTER_TYPE("getterType"),
+        JAVADOC("javadoc"),
+        NEWLINE("newline");
+
+        private final String key;
+
+        private Placeholder(String key) {
+            this.key = Objects.requireNonNull(key);
+        }
+
+        /**
+         * @return The text which appears between "${" and "}" to reference this placeholder
+         */
+        public String getKey() {
+            return key;
+        }
+    }
+
+    /**
+     * Provides the values substituted for field-specific placeholders
+     *
+     * @author romeara
+     * @since 0.2.0
+     */
+    @FunctionalInterface
+    interface Values {
+
+        /**
+         * @param placeholder
+         *            The placeholder to find the value of
+         * @param field
+         *            The index of the field being rendered
+         * @return The value to substitute for the placeholder
+         */
+        String get(Placeholder placeholder, int field);
+
+    }
+
+    private static final Values NO_VALUES = (placeholder, field) -> "";
+
+    private static final String PLACEHOLDER_START = "${";
+
+    private static final char PLACEHOLDER_END = '}';
+
+    // Literal text segments - always one more than the number of placeholders, and may be empty
+    private final String[] literals;
+
+    private final Placeholder[] placeholders;
+
+    private final int literalLength;
+
+    private final Set<Placeholder> references;
+
+    private CompiledTemplate(String[] literals, Placeholder[] placeholders) {
+        this.literals = Objects.requireNonNull(literals);
+        this.placeholders = Objects.requireNonNull(placeholders);
+
+        Set<Placeholder> referenced = EnumSet.noneOf(Placeholder.class);
+        Collections.addAll(referenced, placeholders);
+        references = Collections.unmodifiableSet(referenced);
+
+        int length = 0;
+
+        for (String literal : literals) {
+            length += literal.length();
+        }
+
+        literalLength = length;
+    }
+
+    /**
+     * Splits the provided text into literal and placeholder segments
+     *
+     * @param source
+     *            The template text to compile
+     * @param supported
+     *            The placeholders to substitute when rendering. Any other placeholders are treated as literal text
+     * @return The compiled representation of the template
+     */
+    public static CompiledTemplate compile(String source, Set<Placeholder> supported) {
+        Objects.requireNonNull(source);
+        Objects.requireNonNull(supported);
+
+        List<String> literals = new ArrayList<>();
+        List<Placeholder> placeholders = new ArrayList<>();
+
+        StringBuilder literal = new StringBuilder(source.length());
+        int index = 0;
+
+        while (index < source.length()) {
+            int start = source.indexOf(PLACEHOLDER_START, index);
+            int end = (start >= 0 ? source.indexOf(PLACEHOLDER_END, start + PLACEHOLDER_START.length()) : -1);
+
+            if (end < 0) {
+                literal.append(source, index, source.length());
+                index = source.length();
+            } else {
+                Placeholder placeholder = findPlaceholder(source.substring(start + PLACEHOLDER_START.length(), end),
+                        supported);
+
+                if (placeholder != null) {
+                    literal.append(source, index, start);
+                    literals.add(literal.toString());
+                    placeholders.add(placeholder);
+                    literal.setLength(0);
+
+                    index = end + 1;
+                } else {
+                    // Only consume the opening marker, in case a supported placeholder is nested in unsupported text
+                    literal.append(source, index, start + PLACEHOLDER_START.length());
+
+                    index = start + PLACEHOLDER_START.length();
+                }
+            }
+        }
+
+        literals.add(literal.toString());
+
+        return new CompiledTemplate(literals.toArray(new String[literals.size()]),
+                placeholders.toArray(new Placeholder[placeholders.size()]));
+    }
+
+    /**
+     * @return The placeholders which appear at least once within the template. Values of other placeholders are never
+     *         requested when rendering
+     */
+    public Set<Placeholder> getReferences() {
+        return references;
+    }
+
+    /**
+     * Determines the exact length of the text produced by rendering this template for a field
+     *
+     * @param values
+     *            Source of the values of field-specific placeholders
+     * @param field
+     *            The index of the field being rendered
+     * @return The number of characters a call to {@link #render(StringBuilder, Values, int)} will append
+     */
+    public int getRenderedLength(Values values, int field) {
+        Objects.requireNonNull(values);
+
+        int length = literalLength;
+
+        for (Placeholder placeholder : placeholders) {
+            length += getValue(placeholder, values, field).length();
+        }
+
+        return length;
+    }
+
+    /**
+     * Appends the result of substituting the values of a field into this template to a builder
+     *
+     * @param builder
+     *            The builder to append rendered content to
+     * @param values
+     *            Source of the values of field-specific placeholders
+     * @param field
+     *            The index of the field being rendered
+     */
+    public void render(StringBuilder builder, Values values, int field) {
+        Objects.requireNonNull(builder);
+        Objects.requireNonNull(values);
+
+        for (int i = 0; i < placeholders.length; i++) {
+            builder.append(literals[i]);
+            builder.append(getValue(placeholders[i], values, field));
+        }
+
+        builder.append(literals[placeholders.length]);
+    }
+
+    /**
+     * Renders this template in isolation. Intended for templates which do not reference any field-specific
+     * placeholders
+     *
+     * @return The rendered template text
+     */
+    public String render() {
+        StringBuilder builder = new StringBuilder(getRenderedLength(NO_VALUES, 0));
+        render(builder, NO_VALUES, 0);
+
+        return builder.toString();
+    }
+
+    private static String getValue(Placeholder placeholder, Values values, int field) {
+        // Newlines are the only placeholder which does not vary by field
+        return (placeholder == Placeholder.NEWLINE ? System.lineSeparator() : values.get(placeholder, field));
+    }
+
+    private static Placeholder findPlaceholder(String key, Set<Placeholder> supported) {
+        Placeholder result = null;
+
+        for (Placeholder placeholder : supported) {
+            if (placeholder.getKey().equals(key)) {
+                result = placeholder;
+            }
+        }
+
+        return result;
+    }
+
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.resolver;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.starchartlabs.eclipse.template.dynamic.model.BeanModel;
+import org.starchartlabs.eclipse.template.dynamic.model.TypeSignatureCache;
+import org.starchartlabs.eclipse.template.dynamic.resolver.CompiledTemplate.Placeholder;
+
+/**
+ * The parameters of an "enclosed_bean_fields" variable, parsed into the templates, separator, field filter, field
+ * order, and options used to render it
+ *
+ * <p>
+ * Instances are immutable, and may be shared between threads and re-used for every resolution of the same parameters
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+final class CompiledVariable {
+
+    private static final Set<Placeholder> TEMPLATE_PLACEHOLDERS = EnumSet.of(Placeholder.NAME, Placeholder.GETTER,
+            Placeholder.TYPE, Placeholder.SIMPLE_TYPE, Placeholder.ERASURE, Placeholder.GETTER_TYPE,
+            Placeholder.JAVADOC);
+
+    private static final Set<Placeholder> SEPARATOR_PLACEHOLDERS = EnumSet.of(Placeholder.NEWLINE);
+
+    private static final String INHERITED_OPTION = "inherited";
+
+    private final TemplateDispatch templates;
+
+    private final String separator;
+
+    private final FieldFilter filter;
+
+    private final FieldOrder order;
+
+    private final boolean inherited;
+
+    private CompiledVariable(TemplateDispatch templates, String separator, FieldFilter filter, FieldOrder order,
+            boolean inherited) {
+        this.templates = Objects.requireNonNull(templates);
+        this.separator = Objects.requireNonNull(separator);
+        this.filter = Objects.requireNonNull(filter);
+        this.order = Objects.requireNonNull(order);
+        this.inherited = inherited;
+    }
+
+    /**
+     * Determines if the variable parameters contain a template, a separator, and only recognized options
+     *
+     * @param variableParameters
+     *            The parameters provided to the template variable
+     * @return True if the parameters are valid, false otherwise
+     */
+    public static boolean isValid(List<String> variableParameters) {
+        Objects.requireNonNull(variableParameters);
+
+        return variableParameters.size() >= 2 && getOptions(variableParameters).stream()
+                .allMatch(option -> INHERITED_OPTION.equals(option) || FieldFilter.isFilterOption(option)
+                        || TemplateDispatch.isCategoryOption(option) || FieldOrder.isOrderOption(option));
+    }
+
+    /**
+     * @param variableParameters
+     *            The template, separator, and any options, as provided to the template variable. Expected to be valid,
+     *            as determined by {@link #isValid(List)}
+     * @return The compiled representation of the parameters
+     */
+    public static CompiledVariable compile(List<String> variableParameters) {
+        Objects.requireNonNull(variableParameters);
+
+        List<String> options = getOptions(variableParameters);
+
+        return new CompiledVariable(
+                TemplateDispatch.compile(variableParameters.get(0), options, TEMPLATE_PLACEHOLDERS),
+                CompiledTemplate.compile(variableParameters.get(1), SEPARATOR_PLACEHOLDERS).render(),
+                FieldFilter.compile(options), FieldOrder.compile(options), options.contains(INHERITED_OPTION));
+    }
+
+    /**
+     * @return The templates to render per field, by type category
+     */
+    public TemplateDispatch getTemplates() {
+        return templates;
+    }
+
+    /**
+     * @return The rendered text to place between each occurrence of the template
+     */
+    public String getSeparator() {
+        return separator;
+    }
+
+    /**
+     * @return The filter selecting which bean fields to render
+     */
+    public FieldFilter getFilter() {
+        return filter;
+    }
+
+    /**
+     * @return The order to render selected bean fields in
+     */
+    public FieldOrder getOrder() {
+        return order;
+    }
+
+    /**
+     * @return True if fields and getters declared on superclasses should be included
+     */
+    public boolean isInherited() {
+        return inherited;
+    }
+
+    /**
+     * Renders the template once per selected bean field, placing the separator between each occurrence
+     *
+     * @param model
+     *            The bean model of the type being rendered
+     * @param fields
+     *            The indexes of the bean fields to render, in rendering order
+     * @param signatures
+     *            Source of the type names of field type signatures, for templates referencing a field's type
+     * @return The rendered bean fields
+     */
+    public String render(BeanModel model, int[] fields, TypeSignatureCache signatures) {
+        Objects.requireNonNull(model);
+        Objects.requireNonNull(fields);
+        Objects.requireNonNull(signatures);
+
+        FieldValues values = new FieldValues(model, signatures, templates.getReferences());
+
+        // Size the output exactly up-front, so that rendering does not need to re-allocate as it goes
+        int length = Math.max(0, fields.length - 1) * separator.length();
+
+        for (int field : fields) {
+            length += templates.get(model.getFieldCategory(field)).getRenderedLength(values, field);
+        }
+
+        StringBuilder value = new StringBuilder(length);
+
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                value.append(separator);
+            }
+
+            templates.get(model.getFieldCategory(fields[i])).render(value, values, fields[i]);
+        }
+
+        return value.toString();
+    }
+
+    /**
+     * @param variableParameters
+     *            The parameters provided to the template variable
+     * @return The variable parameters following the template and separator
+     */
+    private static List<String> getOptions(List<String> variableParameters) {
+        return variableParameters.subList(Math.min(2, variableParameters.size()), variableParameters.size());
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.resolver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Bounded cache of compiled variables, keyed by the parameters they were compiled from
+ *
+ * <p>
+ * Teams tend to use a small number of distinct templates many times, so each distinct parameter list is parsed once
+ * and retained while it remains among the most recently used. Invalid parameters are not cached
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+final class CompiledVariableCache {
+
+    private final Map<List<String>, CompiledVariable> entries;
+
+    /**
+     * @param capacity
+     *            The maximum number of compiled variables to keep
+     */
+    public CompiledVariableCache(int capacity) {
+        entries = new LinkedHashMap<List<String>, CompiledVariable>(capacity, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<String>, CompiledVariable> eldest) {
+                return size() > capacity;
+            }
+
+        };
+    }
+
+    /**
+     * @param variableParameters
+     *            The template, separator, and any options, as provided to the template variable
+     * @return The compiled representation of the parameters, or null if the parameters are invalid
+     */
+    public CompiledVariable get(List<String> variableParameters) {
+        Objects.requireNonNull(variableParameters);
+
+        CompiledVariable result = null;
+
+        synchronized (this) {
+            result = entries.get(variableParameters);
+        }
+
+        if (result == null && CompiledVariable.isValid(variableParameters)) {
+            // Copied, as callers may re-use or modify the list provided
+            List<String> key = Collections.unmodifiableList(new ArrayList<>(variableParameters));
+            result = CompiledVariable.compile(key);
+
+            synchronized (this) {
+                // Keep the instance of any concurrent compile, so that all callers share one copy
+                CompiledVariable existing = entries.putIfAbsent(key, result);
+                result = (existing != null ? existing : result);
+            }
+        }
+
+        return result;
+    }
+
+}
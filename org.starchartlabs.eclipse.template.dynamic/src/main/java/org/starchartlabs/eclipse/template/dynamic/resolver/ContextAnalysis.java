@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.resolver;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jface.text.templates.TemplateContext;
+import org.starchartlabs.eclipse.template.dynamic.DynamicTemplatesPlugin;
+import org.starchartlabs.eclipse.template.dynamic.model.BeanModel;
+
+/**
+ * Type analysis performed for a single template expansion, shared between all variables resolved within the same
+ * template context
+ *
+ * <p>
+ * An analysis is tied to its context through a context variable holding the analysis' identifier. Resolvers retain only
+ * the analysis of the most recent context they resolved variables in, which is replaced once a variable is resolved in
+ * a different context. Neither the analysis nor its owner holds a reference to the context itself
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+final class ContextAnalysis {
+
+    private static final String ANALYSIS_VARIABLE = DynamicTemplatesPlugin.PLUGIN_ID + ".analysis";
+
+    private static final AtomicLong IDENTIFIERS = new AtomicLong();
+
+    private final String identifier;
+
+    private final Map<Boolean, BeanModel> beanModels = new HashMap<>();
+
+    private ContextAnalysis(String identifier) {
+        this.identifier = Objects.requireNonNull(identifier);
+    }
+
+    /**
+     * Retrieves the analysis for a template context, creating an empty analysis if none exists yet
+     *
+     * @param context
+     *            The template context a variable is being resolved in
+     * @param previous
+     *            The analysis most recently retrieved by the caller, or null if there is none
+     * @return The previous analysis if it belongs to the context, otherwise a new analysis tied to the context
+     */
+    public static ContextAnalysis forContext(TemplateContext context, ContextAnalysis previous) {
+        Objects.requireNonNull(context);
+
+        ContextAnalysis result = previous;
+
+        if (result == null || !result.identifier.equals(context.getVariable(ANALYSIS_VARIABLE))) {
+            result = new ContextAnalysis(Long.toString(IDENTIFIERS.incrementAndGet()));
+
+            context.setVariable(ANALYSIS_VARIABLE, result.identifier);
+        }
+
+        return result;
+    }
+
+    /**
+     * @param inherited
+     *            True to retrieve the model which includes members inherited from superclasses
+     * @return The bean model of the type enclosing the template, or null if it has not been resolved within this
+     *         context yet
+     */
+    public BeanModel getBeanModel(boolean inherited) {
+        return beanModels.get(inherited);
+    }
+
+    /**
+     * @param inherited
+     *            True if the model includes members inherited from superclasses
+     * @param beanModel
+     *            The bean model of the type enclosing the template, to share with other variables in this context
+     */
+    public void setBeanModel(boolean inherited, BeanModel beanModel) {
+        beanModels.put(inherited, Objects.requireNonNull(beanModel));
+    }
+
+}
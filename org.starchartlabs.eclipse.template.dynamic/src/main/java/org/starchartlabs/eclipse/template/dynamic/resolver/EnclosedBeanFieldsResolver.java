@@ -10,26 +10,26 @@
  */
 package org.starchartlabs.eclipse.template.dynamic.resolver;
 
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.LinkedHashMap;
+import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
-import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.concurrent.TimeUnit;
 
-import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
-import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.internal.corext.template.java.CompilationUnitContext;
 import org.eclipse.jface.text.templates.TemplateContext;
 import org.eclipse.jface.text.templates.TemplateVariable;
 import org.eclipse.jface.text.templates.TemplateVariableResolver;
+import org.starchartlabs.eclipse.template.dynamic.DynamicTemplatesPlugin;
+import org.starchartlabs.eclipse.template.dynamic.model.AstBeanIntrospector;
+import org.starchartlabs.eclipse.template.dynamic.model.BeanIntrospector;
+import org.starchartlabs.eclipse.template.dynamic.model.BeanModel;
+import org.starchartlabs.eclipse.template.dynamic.preferences.PreferenceConstants;
 
 /**
  * Fields resolver which allows defining a template to fill for every Java "bean" field
@@ -42,21 +42,43 @@ import org.eclipse.jface.text.templates.TemplateVariableResolver;
  * The template variable resolved by this class is expected to be of the form:
  *
  * <pre>
- * ${id:enclosed_bean_fields(template, separator)}
+ * ${id:enclosed_bean_fields(template, separator[, options...])}
  * </pre>
  *
  * Where the user-provided values are:
  * <ul>
  * <li>id - identifier (unique within template) and default filler value in case of error</li>
  * <li>template - Line to substitute per bean-field. May use ${name} within to substitute field name, and ${getter} to
- * substitute getter method (including parentheses)</li>
+ * substitute getter method (including parentheses). ${type}, ${simpleType}, and ${erasure} substitute the field's
+ * declared type, the type without package qualification, and the type without type arguments. ${getterType}
+ * substitutes the getter's return type, and ${javadoc} the first sentence of the field's Javadoc</li>
  * <li>separator - value, if any, to place between each occurrence of the substituted template. May use ${newline} to
  * substitute in a System.lineSeparator(). Resulting new-lines will be overridden by code formatter if it is enabled for
  * the template</li>
+ * <li>options - zero or more additional values which alter how bean fields are found and rendered:
+ * <ul>
+ * <li>inherited - includes fields and getters declared on superclasses of the enclosing type, other than private
+ * ones</li>
+ * <li>modifiers=(list) - only renders fields with every listed modifier, or without those prefixed with "!", as
+ * described by {@link FieldFilter}</li>
+ * <li>annotation=(name) - only renders fields with the annotation, or without it if written "annotation=!(name)"</li>
+ * <li>name=(pattern) - only renders fields with a name matching the "*" and "?" wildcard pattern, or excludes them if
+ * written "name=!(pattern)"</li>
+ * <li>(category)=(template) - a template used in place of the main template for fields of a category of type, where
+ * the category is "primitive", "boxed", "array", "collection", or "reference", as described by
+ * {@link TemplateDispatch}</li>
+ * <li>order=(order) - renders fields in "declaration" (the default), "alphabetical", "cost", or "annotation:(name)"
+ * order, as described by {@link FieldOrder}</li>
+ * </ul>
+ * </li>
  * </ul>
  *
  * <p>
- * This class is intended to be extensible
+ * This class is intended to be extensible. Subclasses may change the bean fields rendered by overriding
+ * {@link #getBeanModel(CompilationUnitContext, boolean)}. Overrides of
+ * {@link #getBeanPairs(CompilationUnitContext)} or {@link #getBeanPairs(CompilationUnitContext, boolean)} continue to
+ * be honored - the pairs they provide are rendered in place of the fields found for the type, with the options above
+ * applied to them
  *
  * <p>
  * References:
@@ -75,17 +97,58 @@ import org.eclipse.jface.text.templates.TemplateVariableResolver;
 @SuppressWarnings("restriction")
 public class EnclosedBeanFieldsResolver extends TemplateVariableResolver {
 
+    /**
+     * Regular expression matching the field name placeholder
+     *
+     * @deprecated Templates are no longer substituted using regular expressions - placeholders are located once per
+     *             template, and values are inserted literally. Not used by this class, and retained only for subclasses
+     */
+    @Deprecated
     protected static final String NAME_PLACEHOLDER = "\\$\\{name\\}";
 
+    /**
+     * Regular expression matching the getter placeholder
+     *
+     * @deprecated Templates are no longer substituted using regular expressions - placeholders are located once per
+     *             template, and values are inserted literally. Not used by this class, and retained only for subclasses
+     */
+    @Deprecated
     protected static final String GETTER_PLACEHOLDER = "\\$\\{getter\\}";
 
+    /**
+     * Regular expression matching the separator newline placeholder
+     *
+     * @deprecated Separators are no longer substituted using regular expressions - placeholders are located once per
+     *             separator. Not used by this class, and retained only for subclasses
+     */
+    @Deprecated
     protected static final String NEWLINE_PLACEHOLDER = "\\$\\{newline\\}";
 
-    private static final Set<String> BOOLEAN_TYPE_SIGNATURES = Stream.of("Z", "QBoolean;").collect(Collectors.toSet());
+    private static final int COMPILED_VARIABLE_CAPACITY = 64;
+
+    private static final String BEAN_PAIRS_METHOD = "getBeanPairs";
+
+    // Determined once per resolver class, so the common case of no override does not build bean pair maps
+    private static final ClassValue<Boolean> BEAN_PAIRS_OVERRIDDEN = new ClassValue<Boolean>() {
+
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return overridesBeanPairs(type);
+        }
+
+    };
+
+    // Shared by all resolver instances, as the same parameters are typically used in many templates
+    private static final CompiledVariableCache COMPILED_VARIABLES = new CompiledVariableCache(
+            COMPILED_VARIABLE_CAPACITY);
+
+    // Analysis of the template context variables were most recently resolved in, shared by the variables within it
+    private volatile ContextAnalysis analysis = null;
 
     @Override
     public void resolve(TemplateVariable variable, TemplateContext context) {
-        if (context instanceof CompilationUnitContext) {
+        // Resolution relies on state shared through the plug-in, which is unavailable while it is stopping
+        if (context instanceof CompilationUnitContext && DynamicTemplatesPlugin.getDefault() != null) {
             CompilationUnitContext jc = (CompilationUnitContext) context;
 
             String[] bindings = resolveAll(jc, variable.getVariableType().getParams());
@@ -114,119 +177,229 @@ public class EnclosedBeanFieldsResolver extends TemplateVariableResolver {
     protected String[] resolveAll(CompilationUnitContext context, List<String> variableParameters) {
         String[] result = null;
 
-        if (variableParameters.size() == 2) {
-            String template = variableParameters.get(0);
-            String separator = variableParameters.get(1).replaceAll(NEWLINE_PLACEHOLDER, System.lineSeparator());
+        long startNanos = System.nanoTime();
+        CompiledVariable variable = COMPILED_VARIABLES.get(variableParameters);
+
+        if (variable != null) {
+            boolean inherited = variable.isInherited();
+
+            BeanModel model = getBeanModel(context, inherited);
+            int[] fields = null;
 
-            List<String> lines = new ArrayList<>();
+            // Pairs customized by a subclass take the place of the fields found for the type
+            if (BEAN_PAIRS_OVERRIDDEN.get(getClass())) {
+                model = model.withBeanPairs(inherited ? getBeanPairs(context, true) : getBeanPairs(context));
+            }
 
-            for (Entry<String, String> entry : getBeanPairs(context).entrySet()) {
-                lines.add(template
-                        .replaceAll(NAME_PLACEHOLDER, entry.getKey())
-                        .replaceAll(GETTER_PLACEHOLDER, entry.getValue()));
+            try {
+                fields = variable.getOrder().sort(model, variable.getFilter().select(model));
+            } catch (JavaModelException e) {
+                throw new RuntimeException(e);
             }
 
-            String value = lines.stream().collect(Collectors.joining(separator));
-            result = new String[] { value };
+            result = new String[] { variable.render(model, fields, getPlugin().getTypeSignatureCache()) };
+
+            recordResolution(System.nanoTime() - startNanos, fields.length, inherited);
+        }
+
+        return result;
+    }
+
+    /**
+     * Renders the bean fields of a type directly, outside of any template context. Allows the same variable parameters
+     * to be applied to types which are not open in an editor, such as during bulk code generation
+     *
+     * @param type
+     *            The type to render bean fields of
+     * @param variableParameters
+     *            The template, separator, and any options, as provided to the template variable
+     * @return The rendered bean fields, or null if the variable parameters are invalid
+     * @throws JavaModelException
+     *             If there is an error reading Java model information
+     * @since 0.2.0
+     */
+    public String resolveType(IType type, List<String> variableParameters) throws JavaModelException {
+        Objects.requireNonNull(type);
+        Objects.requireNonNull(variableParameters);
+
+        String result = null;
+
+        long startNanos = System.nanoTime();
+        CompiledVariable variable = COMPILED_VARIABLES.get(variableParameters);
+
+        if (variable != null) {
+            boolean inherited = variable.isInherited();
+
+            DynamicTemplatesPlugin plugin = getPlugin();
+            BeanIntrospector introspector = plugin.getBeanIntrospector();
+            BeanModel model = plugin.getBeanModelCache().get(type, inherited, introspector::introspect);
+            int[] fields = variable.getOrder().sort(model, variable.getFilter().select(model));
+
+            result = variable.render(model, fields, getPlugin().getTypeSignatureCache());
+
+            recordResolution(System.nanoTime() - startNanos, fields.length, inherited);
         }
 
         return result;
     }
 
     /**
-     * Finds all pairs of fields to methods which follow a pre-defined "bean" pattern. Pairs match this pattern if a
-     * field has a corresponding method named "get(fieldname)". For booleans, "is(fieldname)" is also permissible. In
-     * both cases the field name is expected to be capitalized
+     * Finds all pairs of fields to methods which follow a pre-defined "bean" pattern within the type enclosing the
+     * template insertion
      *
      * @param context
      *            Information about the compilation unit the template is being inserted into
      * @return A mapping of any bean fields to the name of the method that matched
+     * @see #getBeanPairs(CompilationUnitContext, boolean)
      */
     protected Map<String, String> getBeanPairs(CompilationUnitContext context) {
+        return getBeanPairs(context, false);
+    }
+
+    /**
+     * Finds all pairs of fields to methods which follow a pre-defined "bean" pattern within the type enclosing the
+     * template insertion
+     *
+     * @param context
+     *            Information about the compilation unit the template is being inserted into
+     * @param inherited
+     *            True if fields and getters declared on superclasses of the enclosing type should be included
+     * @return A mapping of any bean fields to the name of the method that matched
+     * @see #getBeanModel(CompilationUnitContext, boolean)
+     */
+    protected Map<String, String> getBeanPairs(CompilationUnitContext context, boolean inherited) {
+        return getBeanModel(context, inherited).getBeanPairs();
+    }
+
+    /**
+     * Finds the bean model of the type enclosing the template insertion. Results are shared between all variables
+     * resolved within the same template context, and cached per type until the Java model reports a change to any type
+     * they were read from
+     *
+     * @param context
+     *            Information about the compilation unit the template is being inserted into
+     * @param inherited
+     *            True if fields and getters declared on superclasses of the enclosing type should be included
+     * @return The bean model of the enclosing type
+     * @see BeanIntrospector
+     * @since 0.2.0
+     */
+    protected BeanModel getBeanModel(CompilationUnitContext context, boolean inherited) {
         Objects.requireNonNull(context);
 
-        Map<String, String> result = new LinkedHashMap<String, String>();
+        ContextAnalysis current = ContextAnalysis.forContext(context, analysis);
+        BeanModel result = current.getBeanModel(inherited);
 
-        try {
-            IType type = (IType) context.findEnclosingElement(IJavaElement.TYPE);
-            Set<String> methodLookup = getCandidateMethods(type);
-
-            for (IField field : type.getFields()) {
-                String capitalizedName = capitalizeFirstLetter(field.getElementName());
-                String getter = "get" + capitalizedName;
-                String isGetter = "is" + capitalizedName;
-
-                if (methodLookup.contains(getter)) {
-                    result.put(field.getElementName(), getter + "()");
-                } else if (isBooleanField(field) && methodLookup.contains(isGetter)) {
-                    result.put(field.getElementName(), isGetter + "()");
-                }
+        analysis = current;
+
+        if (result != null) {
+            getPlugin().getStatistics().recordContextHit();
+        } else {
+            try {
+                result = findBeanModel(context, inherited);
+            } catch (JavaModelException e) {
+                throw new RuntimeException(e);
             }
-        } catch (JavaModelException e) {
-            throw new RuntimeException(e);
+
+            current.setBeanModel(inherited, result);
         }
 
         return result;
     }
 
     /**
-     * Finds and returns any methods within the provided type which match the expected pattern of a "getter". Matching
-     * methods start with either "get" or "is", and have no parameters
+     * Determines if a resolver class customizes bean pairs by overriding either form of
+     * {@link #getBeanPairs(CompilationUnitContext, boolean)}
      *
      * @param type
-     *            Eclipse JDT representation of the type the template is being inserted into
-     * @return Set of method names matching "getter" criteria
-     * @throws JavaModelException
-     *             If there is an error reading Java model information from the type
+     *            The resolver class to check
+     * @return True if the class or any superclass below this one declares a getBeanPairs method
      */
-    private Set<String> getCandidateMethods(IType type) throws JavaModelException {
-        Objects.requireNonNull(type);
-
-        IMethod[] methods = type.getMethods();
-        Set<String> methodLookup = new HashSet<>();
-
-        for (IMethod method : methods) {
-            if (method.getParameterNames().length == 0
-                    && (method.getElementName().startsWith("get") || method.getElementName().startsWith("is"))) {
-                methodLookup.add(method.getElementName());
+    private static boolean overridesBeanPairs(Class<?> type) {
+        boolean result = false;
+        Class<?> current = type;
+
+        while (current != EnclosedBeanFieldsResolver.class && !result) {
+            for (Method method : current.getDeclaredMethods()) {
+                Class<?>[] parameters = method.getParameterTypes();
+
+                result |= BEAN_PAIRS_METHOD.equals(method.getName()) && !method.isBridge()
+                        && (Arrays.equals(parameters, new Class<?>[] { CompilationUnitContext.class })
+                                || Arrays.equals(parameters, new Class<?>[] { CompilationUnitContext.class,
+                                        boolean.class }));
             }
+
+            current = current.getSuperclass();
         }
 
-        return methodLookup;
+        return result;
     }
 
     /**
-     * Determines if a field represents a primitive or object boolean
+     * Reads the bean model of the type enclosing the template insertion. Compilation units with changes not yet
+     * reconciled into the Java model are read from a syntax tree, if enabled, to avoid waiting on a reconcile
      *
-     * @param field
-     *            The field to check
-     * @return True if the field represents a form of Java boolean, false otherwise
+     * @param context
+     *            Information about the compilation unit the template is being inserted into
+     * @param inherited
+     *            True if fields and getters declared on superclasses of the enclosing type should be included
+     * @return The bean model of the enclosing type
      * @throws JavaModelException
-     *             If there is an error reading Java model information from the field
+     *             If there is an error reading Java model information
      */
-    private boolean isBooleanField(IField field) throws JavaModelException {
-        Objects.requireNonNull(field);
+    private BeanModel findBeanModel(CompilationUnitContext context, boolean inherited) throws JavaModelException {
+        ICompilationUnit unit = context.getCompilationUnit();
+        BeanModel result = null;
+
+        if (!inherited && unit != null && !unit.isConsistent()
+                && PreferenceConstants.getBoolean(PreferenceConstants.SYNTAX_TREE_FOR_UNSAVED, true)) {
+            result = new AstBeanIntrospector(getPlugin().getAccessorNaming()).introspect(unit, context.getStart());
+        }
+
+        if (result == null) {
+            IType type = (IType) context.findEnclosingElement(IJavaElement.TYPE);
+            DynamicTemplatesPlugin plugin = getPlugin();
+            BeanIntrospector introspector = plugin.getBeanIntrospector();
+
+            result = plugin.getBeanModelCache().get(type, inherited, introspector::introspect);
+        }
 
-        return BOOLEAN_TYPE_SIGNATURES.contains(field.getTypeSignature());
+        return result;
     }
 
     /**
-     * Capitalizes the first letter in the provided string
+     * Records statistics and trace output for a completed resolution
      *
-     * @param input
-     *            The string to capitalize
-     * @return The capitalized string
+     * @param latencyNanos
+     *            The time taken to resolve the variable, in nanoseconds
+     * @param fieldCount
+     *            The number of bean fields rendered
+     * @param inherited
+     *            True if fields and getters declared on superclasses were included
      */
-    private String capitalizeFirstLetter(String input) {
-        Objects.requireNonNull(input);
+    private void recordResolution(long latencyNanos, int fieldCount, boolean inherited) {
+        DynamicTemplatesPlugin plugin = getPlugin();
+        plugin.getStatistics().recordResolution(latencyNanos, fieldCount);
+
+        if (plugin.getTrace().isEnabled()) {
+            plugin.getTrace().trace("Resolved " + fieldCount + " bean fields (inherited=" + inherited + ") in "
+                    + TimeUnit.NANOSECONDS.toMicros(latencyNanos) + "us");
+        }
+    }
 
-        String result = input;
+    /**
+     * @return The active plug-in instance, which holds state shared between resolutions
+     * @throws IllegalStateException
+     *             If the plug-in is not active
+     */
+    private DynamicTemplatesPlugin getPlugin() {
+        DynamicTemplatesPlugin result = DynamicTemplatesPlugin.getDefault();
 
-        if(!input.isEmpty()) {
-            String first = new String(input.substring(0, 1));
-            result = input.replaceFirst(first, first.toUpperCase());
+        if (result == null) {
+            throw new IllegalStateException("Plug-in " + DynamicTemplatesPlugin.PLUGIN_ID + " is not active");
         }
 
         return result;
     }
+
 }
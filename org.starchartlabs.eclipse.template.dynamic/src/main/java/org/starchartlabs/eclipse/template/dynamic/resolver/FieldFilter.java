@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.resolver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.core.Flags;
+import org.starchartlabs.eclipse.template.dynamic.model.BeanModel;
+
+/**
+ * Selects the bean fields to render, based on variable options which filter by modifier, annotation, and name
+ *
+ * <p>
+ * Options take the form:
+ * <ul>
+ * <li>modifiers=(modifier list) - comma-separated modifiers a field must have. Modifiers prefixed with "!" must not be
+ * present. Supported modifiers are public, protected, private, static, final, transient, and volatile</li>
+ * <li>annotation=(name) - an annotation a field must have, by simple or qualified name. Prefixed with "!", an
+ * annotation a field must not have</li>
+ * <li>name=(glob) - a pattern a field name must match, where "*" matches any sequence of characters and "?" any single
+ * character. Where several are provided, a field must match at least one. Prefixed with "!", a pattern a field name
+ * must not match</li>
+ * </ul>
+ *
+ * <p>
+ * Modifier options are compiled into required and forbidden bit masks, tested against the modifier flags recorded when
+ * the type's members were read. Filtering only reads information already held by the bean model, so excluded fields
+ * cost a few comparisons and are never rendered
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+final class FieldFilter {
+
+    private static final String MODIFIERS_OPTION = "modifiers=";
+
+    private static final String ANNOTATION_OPTION = "annotation=";
+
+    private static final String NAME_OPTION = "name=";
+
+    private static final String NEGATION = "!";
+
+    private static final Map<String, Integer> MODIFIER_FLAGS;
+
+    static {
+        Map<String, Integer> modifierFlags = new HashMap<>();
+        modifierFlags.put("public", Flags.AccPublic);
+        modifierFlags.put("protected", Flags.AccProtected);
+        modifierFlags.put("private", Flags.AccPrivate);
+        modifierFlags.put("static", Flags.AccStatic);
+        modifierFlags.put("final", Flags.AccFinal);
+        modifierFlags.put("transient", Flags.AccTransient);
+        modifierFlags.put("volatile", Flags.AccVolatile);
+
+        MODIFIER_FLAGS = Collections.unmodifiableMap(modifierFlags);
+    }
+
+    private final int requiredFlags;
+
+    private final int forbiddenFlags;
+
+    private final String[] requiredAnnotations;
+
+    private final String[] forbiddenAnnotations;
+
+    // Null if any name is accepted
+    private final Pattern includedNames;
+
+    // Null if no name is excluded
+    private final Pattern excludedNames;
+
+    private FieldFilter(int requiredFlags, int forbiddenFlags, String[] requiredAnnotations,
+            String[] forbiddenAnnotations, Pattern includedNames, Pattern excludedNames) {
+        this.requiredFlags = requiredFlags;
+        this.forbiddenFlags = forbiddenFlags;
+        this.requiredAnnotations = Objects.requireNonNull(requiredAnnotations);
+        this.forbiddenAnnotations = Objects.requireNonNull(forbiddenAnnotations);
+        this.includedNames = includedNames;
+        this.excludedNames = excludedNames;
+    }
+
+    /**
+     * @param option
+     *            A variable option
+     * @return True if the option is a well-formed field filter
+     */
+    public static boolean isFilterOption(String option) {
+        Objects.requireNonNull(option);
+
+        boolean result = false;
+
+        if (option.startsWith(MODIFIERS_OPTION)) {
+            List<String> modifiers = getValues(option.substring(MODIFIERS_OPTION.length()));
+
+            result = !modifiers.isEmpty() && modifiers.stream()
+                    .map(FieldFilter::removeNegation)
+                    .allMatch(MODIFIER_FLAGS::containsKey);
+        } else if (option.startsWith(ANNOTATION_OPTION)) {
+            result = !removeNegation(option.substring(ANNOTATION_OPTION.length()).trim()).isEmpty();
+        } else if (option.startsWith(NAME_OPTION)) {
+            result = !removeNegation(option.substring(NAME_OPTION.length()).trim()).isEmpty();
+        }
+
+        return result;
+    }
+
+    /**
+     * Compiles the field filter options among a set of variable options. Options which are not field filters are
+     * ignored
+     *
+     * @param options
+     *            The variable options, each of which is expected to be either a well-formed filter or another option
+     * @return A filter which accepts only fields meeting every filter option
+     */
+    public static FieldFilter compile(List<String> options) {
+        Objects.requireNonNull(options);
+
+        int requiredFlags = 0;
+        int forbiddenFlags = 0;
+        List<String> requiredAnnotations = new ArrayList<>();
+        List<String> forbiddenAnnotations = new ArrayList<>();
+        List<String> includedNames = new ArrayList<>();
+        List<String> excludedNames = new ArrayList<>();
+
+        for (String option : options) {
+            if (isFilterOption(option)) {
+                if (option.startsWith(MODIFIERS_OPTION)) {
+                    for (String modifier : getValues(option.substring(MODIFIERS_OPTION.length()))) {
+                        if (isNegated(modifier)) {
+                            forbiddenFlags |= MODIFIER_FLAGS.get(removeNegation(modifier));
+                        } else {
+                            requiredFlags |= MODIFIER_FLAGS.get(modifier);
+                        }
+                    }
+                } else if (option.startsWith(ANNOTATION_OPTION)) {
+                    String annotation = option.substring(ANNOTATION_OPTION.length()).trim();
+
+                    if (isNegated(annotation)) {
+                        forbiddenAnnotations.add(removeNegation(annotation));
+                    } else {
+                        requiredAnnotations.add(annotation);
+                    }
+                } else {
+                    String name = option.substring(NAME_OPTION.length()).trim();
+
+                    if (isNegated(name)) {
+                        excludedNames.add(toRegex(removeNegation(name)));
+                    } else {
+                        includedNames.add(toRegex(name));
+                    }
+                }
+            }
+        }
+
+        return new FieldFilter(requiredFlags, forbiddenFlags,
+                requiredAnnotations.toArray(new String[requiredAnnotations.size()]),
+                forbiddenAnnotations.toArray(new String[forbiddenAnnotations.size()]), toPattern(includedNames),
+                toPattern(excludedNames));
+    }
+
+    /**
+     * Determines which fields of a bean model are accepted by this filter
+     *
+     * @param model
+     *            The bean model to filter
+     * @return The indexes of accepted fields, in rendering order
+     */
+    public int[] select(BeanModel model) {
+        Objects.requireNonNull(model);
+
+        int[] result = new int[model.getFieldCount()];
+        int count = 0;
+
+        for (int i = 0; i < result.length; i++) {
+            if (accepts(model, i)) {
+                result[count++] = i;
+            }
+        }
+
+        return (count == result.length ? result : Arrays.copyOf(result, count));
+    }
+
+    private boolean accepts(BeanModel model, int field) {
+        int flags = model.getFieldFlags(field);
+
+        // Cheapest checks first - most filters are expected to be modifier-only
+        boolean result = (flags & requiredFlags) == requiredFlags && (flags & forbiddenFlags) == 0;
+
+        for (int i = 0; i < requiredAnnotations.length && result; i++) {
+            result = hasAnnotation(model.getFieldAnnotations(field), requiredAnnotations[i]);
+        }
+
+        for (int i = 0; i < forbiddenAnnotations.length && result; i++) {
+            result = !hasAnnotation(model.getFieldAnnotations(field), forbiddenAnnotations[i]);
+        }
+
+        if (result && includedNames != null) {
+            result = includedNames.matcher(model.getFieldName(field)).matches();
+        }
+
+        if (result && excludedNames != null) {
+            result = !excludedNames.matcher(model.getFieldName(field)).matches();
+        }
+
+        return result;
+    }
+
+    private static boolean hasAnnotation(String[] annotations, String name) {
+        return findAnnotation(annotations, name) != null;
+    }
+
+    /**
+     * Finds an annotation by name. Names are compared in full when both are qualified, and otherwise by simple name, as
+     * annotations read from source are named as written
+     *
+     * @param annotations
+     *            The annotations of a field
+     * @param name
+     *            The simple or qualified name of the annotation to find
+     * @return The annotation's name as recorded for the field, or null if the annotation is not present
+     */
+    static String findAnnotation(String[] annotations, String name) {
+        String result = null;
+
+        for (int i = 0; i < annotations.length && result == null; i++) {
+            String annotation = annotations[i];
+            boolean matches = false;
+
+            if (isQualified(annotation) && isQualified(name)) {
+                matches = annotation.equals(name);
+            } else {
+                matches = getSimpleName(annotation).equals(getSimpleName(name));
+            }
+
+            if (matches) {
+                result = annotation;
+            }
+        }
+
+        return result;
+    }
+
+    private static boolean isQualified(String name) {
+        return name.indexOf('.') >= 0;
+    }
+
+    private static String getSimpleName(String name) {
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+
+    private static List<String> getValues(String value) {
+        List<String> result = new ArrayList<>();
+
+        for (String element : value.split(",")) {
+            if (!element.trim().isEmpty()) {
+                result.add(element.trim());
+            }
+        }
+
+        return result;
+    }
+
+    private static boolean isNegated(String value) {
+        return value.startsWith(NEGATION);
+    }
+
+    private static String removeNegation(String value) {
+        return (isNegated(value) ? value.substring(NEGATION.length()).trim() : value);
+    }
+
+    private static String toRegex(String glob) {
+        StringBuilder result = new StringBuilder(glob.length() + 8);
+        int literalStart = 0;
+
+        for (int i = 0; i < glob.length(); i++) {
+            char character = glob.charAt(i);
+
+            if (character == '*' || character == '?') {
+                if (i > literalStart) {
+                    result.append(Pattern.quote(glob.substring(literalStart, i)));
+                }
+
+                result.append(character == '*' ? ".*" : ".");
+                literalStart = i + 1;
+            }
+        }
+
+        if (literalStart < glob.length()) {
+            result.append(Pattern.quote(glob.substring(literalStart)));
+        }
+
+        return result.toString();
+    }
+
+    private static Pattern toPattern(List<String> regexes) {
+        return (regexes.isEmpty() ? null : Pattern.compile(String.join("|", regexes)));
+    }
+
+}
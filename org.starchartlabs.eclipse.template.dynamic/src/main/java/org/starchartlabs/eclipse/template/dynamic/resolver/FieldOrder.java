@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.resolver;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.jdt.core.JavaModelException;
+import org.starchartlabs.eclipse.template.dynamic.model.BeanMembers;
+import org.starchartlabs.eclipse.template.dynamic.model.BeanModel;
+import org.starchartlabs.eclipse.template.dynamic.model.TypeCategory;
+
+/**
+ * Orders the bean fields to render, based on an "order=" variable option
+ *
+ * <p>
+ * Supported orders are:
+ * <ul>
+ * <li>declaration - the order fields are declared in, starting from the top-most superclass if inherited fields are
+ * included. The default</li>
+ * <li>alphabetical - by field name</li>
+ * <li>cost - by the typical cost of comparing values of the field's type: primitives, then boxed primitives, strings,
+ * other references, arrays, and collections</li>
+ * <li>annotation:(name) - by the numeric "value" of an annotation on each field, such as "annotation:Order" for fields
+ * annotated with "@Order(1)". Fields without the annotation follow those which have it</li>
+ * </ul>
+ *
+ * <p>
+ * Ordering rearranges the indexes of the selected fields in place, and leaves the bean model untouched, so any number
+ * of orders may be applied to the same cached model. Sorting is stable - fields which compare equal keep their
+ * declaration order
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+final class FieldOrder {
+
+    private static final String ORDER_OPTION = "order=";
+
+    private static final String DECLARATION_ORDER = "declaration";
+
+    private static final String ALPHABETICAL_ORDER = "alphabetical";
+
+    private static final String COST_ORDER = "cost";
+
+    private static final String ANNOTATION_ORDER = "annotation:";
+
+    private static final FieldOrder DECLARATION = new FieldOrder(Kind.DECLARATION, null);
+
+    private enum Kind {
+        DECLARATION,
+        ALPHABETICAL,
+        COST,
+        ANNOTATION;
+    }
+
+    /**
+     * Compares two fields of a bean model by index
+     */
+    @FunctionalInterface
+    private interface FieldComparator {
+
+        int compare(int field, int other);
+
+    }
+
+    private final Kind kind;
+
+    // Null unless ordering by annotation
+    private final String annotationName;
+
+    private FieldOrder(Kind kind, String annotationName) {
+        this.kind = Objects.requireNonNull(kind);
+        this.annotationName = annotationName;
+    }
+
+    /**
+     * @param option
+     *            A variable option
+     * @return True if the option is a well-formed field order
+     */
+    public static boolean isOrderOption(String option) {
+        Objects.requireNonNull(option);
+
+        return option.startsWith(ORDER_OPTION) && parse(option.substring(ORDER_OPTION.length()).trim()) != null;
+    }
+
+    /**
+     * Compiles the field order option among a set of variable options. Options which are not field orders are ignored.
+     * If several orders are provided, the last applies
+     *
+     * @param options
+     *            The variable options, each of which is expected to be either a well-formed order or another option
+     * @return The order to render fields in
+     */
+    public static FieldOrder compile(List<String> options) {
+        Objects.requireNonNull(options);
+
+        FieldOrder result = DECLARATION;
+
+        for (String option : options) {
+            if (isOrderOption(option)) {
+                result = parse(option.substring(ORDER_OPTION.length()).trim());
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Sorts the selected fields of a bean model into this order
+     *
+     * @param model
+     *            The bean model the fields were selected from
+     * @param fields
+     *            The indexes of the selected fields, in declaration order. Sorted in place
+     * @return The provided indexes, sorted
+     * @throws JavaModelException
+     *             If there is an error reading Java model information needed to order the fields
+     */
+    public int[] sort(BeanModel model, int[] fields) throws JavaModelException {
+        Objects.requireNonNull(model);
+        Objects.requireNonNull(fields);
+
+        switch (kind) {
+        case DECLARATION:
+            // Selected fields are already in declaration order
+            break;
+        case ALPHABETICAL:
+            sort(fields, (field, other) -> model.getFieldName(field).compareTo(model.getFieldName(other)));
+            break;
+        case COST:
+            sort(fields, getCostRanks(model));
+            break;
+        case ANNOTATION:
+            sort(fields, getAnnotationRanks(model, fields));
+            break;
+        default:
+            throw new IllegalStateException("Unhandled field order: " + kind);
+        }
+
+        return fields;
+    }
+
+    private static FieldOrder parse(String order) {
+        FieldOrder result = null;
+
+        if (DECLARATION_ORDER.equals(order)) {
+            result = DECLARATION;
+        } else if (ALPHABETICAL_ORDER.equals(order)) {
+            result = new FieldOrder(Kind.ALPHABETICAL, null);
+        } else if (COST_ORDER.equals(order)) {
+            result = new FieldOrder(Kind.COST, null);
+        } else if (order.startsWith(ANNOTATION_ORDER) && !order.substring(ANNOTATION_ORDER.length()).trim().isEmpty()) {
+            result = new FieldOrder(Kind.ANNOTATION, order.substring(ANNOTATION_ORDER.length()).trim());
+        }
+
+        return result;
+    }
+
+    /**
+     * @param model
+     *            The bean model being ordered
+     * @return The relative cost of comparing each field of the model, indexed by field
+     */
+    private static int[] getCostRanks(BeanModel model) {
+        int[] result = new int[model.getFieldCount()];
+
+        for (int i = 0; i < result.length; i++) {
+            TypeCategory category = model.getFieldCategory(i);
+
+            switch (category) {
+            case PRIMITIVE:
+                result[i] = 0;
+                break;
+            case BOXED:
+                result[i] = 1;
+                break;
+            case REFERENCE:
+                result[i] = (isString(model.getFieldTypeSignature(i)) ? 2 : 3);
+                break;
+            case ARRAY:
+                result[i] = 4;
+                break;
+            case COLLECTION:
+                result[i] = 5;
+                break;
+            default:
+                throw new IllegalStateException("Unhandled type category: " + category);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Reads the ordering annotation's value for each selected field. Annotations are located from the names recorded
+     * in the model first, so only annotated fields require Java model reads
+     *
+     * @param model
+     *            The bean model being ordered
+     * @param fields
+     *            The indexes of the selected fields
+     * @return The annotation value of each field, indexed by field. Fields without a numeric value rank last
+     * @throws JavaModelException
+     *             If there is an error reading Java model information
+     */
+    private int[] getAnnotationRanks(BeanModel model, int[] fields) throws JavaModelException {
+        int[] result = new int[model.getFieldCount()];
+        BeanMembers members = new BeanMembers(model);
+
+        for (int field : fields) {
+            String annotation = FieldFilter.findAnnotation(model.getFieldAnnotations(field), annotationName);
+            Object value = (annotation != null ? members.getAnnotationValue(field, annotation) : null);
+
+            result[field] = (value instanceof Number ? ((Number) value).intValue() : Integer.MAX_VALUE);
+        }
+
+        return result;
+    }
+
+    private static boolean isString(String typeSignature) {
+        return "QString;".equals(typeSignature) || "Ljava.lang.String;".equals(typeSignature);
+    }
+
+    private static void sort(int[] fields, int[] ranks) {
+        sort(fields, (field, other) -> Integer.compare(ranks[field], ranks[other]));
+    }
+
+    /**
+     * Stable merge sort of field indexes, which avoids boxing every index to use a comparator
+     *
+     * @param fields
+     *            The indexes of the fields to sort, in place
+     * @param comparator
+     *            Comparison between two fields
+     */
+    private static void sort(int[] fields, FieldComparator comparator) {
+        int[] source = fields;
+        int[] target = new int[fields.length];
+
+        for (int width = 1; width < fields.length; width *= 2) {
+            for (int start = 0; start < fields.length; start += 2 * width) {
+                int middle = Math.min(start + width, fields.length);
+                int end = Math.min(start + 2 * width, fields.length);
+                int left = start;
+                int right = middle;
+
+                for (int i = start; i < end; i++) {
+                    // Take from the left run on ties, to keep equal fields in their original order
+                    if (left < middle && (right >= end || comparator.compare(source[left], source[right]) <= 0)) {
+                        target[i] = source[left++];
+                    } else {
+                        target[i] = source[right++];
+                    }
+                }
+            }
+
+            int[] swap = source;
+            source = target;
+            target = swap;
+        }
+
+        if (source != fields) {
+            System.arraycopy(source, 0, fields, 0, fields.length);
+        }
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.resolver;
+
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.jdt.core.JavaModelException;
+import org.starchartlabs.eclipse.template.dynamic.model.BeanMembers;
+import org.starchartlabs.eclipse.template.dynamic.model.BeanModel;
+import org.starchartlabs.eclipse.template.dynamic.model.TypeSignatureCache;
+import org.starchartlabs.eclipse.template.dynamic.model.TypeSignatureCache.TypeNames;
+import org.starchartlabs.eclipse.template.dynamic.resolver.CompiledTemplate.Placeholder;
+import org.starchartlabs.eclipse.template.dynamic.resolver.CompiledTemplate.Values;
+
+/**
+ * Provides the placeholder values of the fields of a bean model for a single rendering
+ *
+ * <p>
+ * Type names are only decoded for templates which reference them, through a cache shared between resolutions, and are
+ * kept per field for the rest of the rendering. Information which requires further Java model reads, such as Javadoc,
+ * is only read if the templates reference it, and then only for fields as they are rendered. Instances are not safe to
+ * share between threads
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+final class FieldValues implements Values {
+
+    private final BeanModel model;
+
+    private final TypeSignatureCache signatures;
+
+    // Null if the templates do not reference any placeholder read from the Java model
+    private final BeanMembers members;
+
+    // Allocated on first use, as most templates do not reference type placeholders
+    private TypeNames[] typeNames = null;
+
+    private TypeNames[] getterTypeNames = null;
+
+    /**
+     * @param model
+     *            The bean model being rendered
+     * @param signatures
+     *            Shared cache of decoded type signatures
+     * @param references
+     *            The placeholders referenced by the templates being rendered
+     */
+    public FieldValues(BeanModel model, TypeSignatureCache signatures, Set<Placeholder> references) {
+        this.model = Objects.requireNonNull(model);
+        this.signatures = Objects.requireNonNull(signatures);
+        Objects.requireNonNull(references);
+
+        members = (references.contains(Placeholder.GETTER_TYPE) || references.contains(Placeholder.JAVADOC)
+                ? new BeanMembers(model) : null);
+    }
+
+    @Override
+    public String get(Placeholder placeholder, int field) {
+        String result = null;
+
+        switch (placeholder) {
+        case NAME:
+            result = model.getFieldName(field);
+            break;
+        case GETTER:
+            result = model.getGetter(field);
+            break;
+        case TYPE:
+            result = getTypeNames(field).getType();
+            break;
+        case SIMPLE_TYPE:
+            result = getTypeNames(field).getSimpleType();
+            break;
+        case ERASURE:
+            result = getTypeNames(field).getErasure();
+            break;
+        case GETTER_TYPE:
+            result = getGetterTypeNames(field).getType();
+            break;
+        case JAVADOC:
+            result = getJavadocSummary(field);
+            break;
+        default:
+            throw new IllegalStateException("Unhandled placeholder: " + placeholder);
+        }
+
+        return result;
+    }
+
+    private TypeNames getTypeNames(int field) {
+        if (typeNames == null) {
+            typeNames = new TypeNames[model.getFieldCount()];
+        }
+
+        if (typeNames[field] == null) {
+            typeNames[field] = signatures.get(model.getFieldTypeSignature(field));
+        }
+
+        return typeNames[field];
+    }
+
+    private TypeNames getGetterTypeNames(int field) {
+        if (getterTypeNames == null) {
+            getterTypeNames = new TypeNames[model.getFieldCount()];
+        }
+
+        if (getterTypeNames[field] == null) {
+            try {
+                getterTypeNames[field] = signatures.get(getMembers().getGetterTypeSignature(field));
+            } catch (JavaModelException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        return getterTypeNames[field];
+    }
+
+    private String getJavadocSummary(int field) {
+        String result = null;
+
+        // Summaries are kept by the member lookup, so repeated requests for a field do not re-read its Javadoc
+        try {
+            result = getMembers().getJavadocSummary(field);
+        } catch (JavaModelException e) {
+            throw new RuntimeException(e);
+        }
+
+        return result;
+    }
+
+    private BeanMembers getMembers() {
+        if (members == null) {
+            throw new IllegalStateException("Java model placeholders were not referenced by the rendered templates");
+        }
+
+        return members;
+    }
+
+}
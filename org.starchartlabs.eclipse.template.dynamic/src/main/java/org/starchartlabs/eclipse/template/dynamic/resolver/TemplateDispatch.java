@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.resolver;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.starchartlabs.eclipse.template.dynamic.model.TypeCategory;
+import org.starchartlabs.eclipse.template.dynamic.resolver.CompiledTemplate.Placeholder;
+
+/**
+ * Table of compiled templates indexed by field type category, allowing different code to be rendered per category of
+ * field
+ *
+ * <p>
+ * Category-specific templates are provided as variable options of the form (category)=(template), where category is
+ * the key of a {@link TypeCategory}, such as "primitive=${name} == other.${name}". Categories without a specific
+ * template use the variable's main template. Each distinct template is compiled once, and rendering selects a template
+ * by the category recorded in the bean model
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+final class TemplateDispatch {
+
+    private static final String VALUE_SEPARATOR = "=";
+
+    // Indexed by category ordinal
+    private final CompiledTemplate[] templates;
+
+    private final Set<Placeholder> references;
+
+    private TemplateDispatch(CompiledTemplate[] templates) {
+        this.templates = Objects.requireNonNull(templates);
+
+        Set<Placeholder> referenced = EnumSet.noneOf(Placeholder.class);
+
+        for (CompiledTemplate template : templates) {
+            referenced.addAll(template.getReferences());
+        }
+
+        references = Collections.unmodifiableSet(referenced);
+    }
+
+    /**
+     * @param option
+     *            A variable option
+     * @return True if the option provides a template for a category of field type
+     */
+    public static boolean isCategoryOption(String option) {
+        Objects.requireNonNull(option);
+
+        return getCategory(option) != null;
+    }
+
+    /**
+     * Compiles the main template and any category-specific templates among a set of variable options. Options which
+     * are not category templates are ignored
+     *
+     * @param template
+     *            The main template, used for categories without a specific template
+     * @param options
+     *            The variable options
+     * @param supported
+     *            The placeholders to substitute when rendering
+     * @return A table of the template to render for each category
+     */
+    public static TemplateDispatch compile(String template, List<String> options, Set<Placeholder> supported) {
+        Objects.requireNonNull(template);
+        Objects.requireNonNull(options);
+        Objects.requireNonNull(supported);
+
+        CompiledTemplate[] templates = new CompiledTemplate[TypeCategory.values().length];
+        Arrays.fill(templates, CompiledTemplate.compile(template, supported));
+
+        for (String option : options) {
+            TypeCategory category = getCategory(option);
+
+            if (category != null) {
+                String source = option.substring(category.getKey().length() + VALUE_SEPARATOR.length());
+
+                templates[category.ordinal()] = CompiledTemplate.compile(source, supported);
+            }
+        }
+
+        return new TemplateDispatch(templates);
+    }
+
+    /**
+     * @param category
+     *            The category of a field's type
+     * @return The template to render for fields of the category
+     */
+    public CompiledTemplate get(TypeCategory category) {
+        return templates[category.ordinal()];
+    }
+
+    /**
+     * @return The placeholders referenced by the template of any category
+     */
+    public Set<Placeholder> getReferences() {
+        return references;
+    }
+
+    private static TypeCategory getCategory(String option) {
+        TypeCategory result = null;
+
+        for (TypeCategory category : TypeCategory.values()) {
+            if (option.startsWith(category.getKey() + VALUE_SEPARATOR)) {
+                result = category;
+            }
+        }
+
+        return result;
+    }
+
+}
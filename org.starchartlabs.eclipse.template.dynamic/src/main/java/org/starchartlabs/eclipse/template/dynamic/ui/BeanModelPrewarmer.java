@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) Oct 17, 2026 StarChart Labs Authors.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    romeara - initial API and implementation and/or initial documentation
+ */
+package org.starchartlabs.eclipse.template.dynamic.ui;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences.IPreferenceChangeListener;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.ui.JavaUI;
+import org.eclipse.ui.IEditorPart;
+import org.eclipse.ui.IEditorReference;
+import org.eclipse.ui.IPartListener2;
+import org.eclipse.ui.IStartup;
+import org.eclipse.ui.IWindowListener;
+import org.eclipse.ui.IWorkbench;
+import org.eclipse.ui.IWorkbenchPage;
+import org.eclipse.ui.IWorkbenchPartReference;
+import org.eclipse.ui.IWorkbenchWindow;
+import org.eclipse.ui.PlatformUI;
+import org.starchartlabs.eclipse.template.dynamic.DynamicTemplatesPlugin;
+import org.starchartlabs.eclipse.template.dynamic.preferences.PreferenceConstants;
+
+/**
+ * Analyzes the types of a Java compilation unit in the background when its editor is activated, so that the first
+ * template insertion into a large type does not wait on reading its members
+ *
+ * <p>
+ * Analysis fills the same bean model cache read during template variable resolution, and is cancelled if the editor is
+ * closed before it completes. Pre-warming only occurs while enabled in the plug-in's preferences
+ *
+ * <p>
+ * Registration as a startup extension activates the plug-in on every workbench start. While pre-warming is disabled,
+ * the only further startup cost is a single preference read and a listener for changes to the preference - window and
+ * part listeners are only installed once pre-warming is enabled, and are removed again if it is disabled. Users may
+ * also disable the extension under "General &gt; Startup and Shutdown"
+ *
+ * @author romeara
+ * @since 0.2.0
+ */
+public class BeanModelPrewarmer implements IStartup, IPartListener2, IWindowListener {
+
+    // Added to from the UI thread, where all part and window events are delivered, and removed from as jobs complete
+    private final Map<IWorkbenchPartReference, PrewarmJob> jobs = new ConcurrentHashMap<>();
+
+    private final IPreferenceChangeListener enablementListener = event -> {
+        if (PreferenceConstants.PREWARM_ON_EDITOR_ACTIVATION.equals(event.getKey())
+                && PlatformUI.isWorkbenchRunning()) {
+            IWorkbench workbench = PlatformUI.getWorkbench();
+
+            workbench.getDisplay().asyncExec(() -> updateListeners(workbench));
+        }
+    };
+
+    // Only accessed from the UI thread
+    private boolean listening = false;
+
+    @Override
+    public void earlyStartup() {
+        InstanceScope.INSTANCE.getNode(DynamicTemplatesPlugin.PLUGIN_ID).addPreferenceChangeListener(
+                enablementListener);
+
+        if (isEnabled()) {
+            IWorkbench workbench = PlatformUI.getWorkbench();
+
+            workbench.getDisplay().asyncExec(() -> updateListeners(workbench));
+        }
+    }
+
+    @Override
+    public void windowOpened(IWorkbenchWindow window) {
+        window.getPartService().addPartListener(this);
+
+        IWorkbenchPage page = window.getActivePage();
+        IEditorPart editor = (page != null ? page.getActiveEditor() : null);
+
+        if (editor != null) {
+            prewarm(page.getReference(editor), editor);
+        }
+    }
+
+    @Override
+    public void windowClosed(IWorkbenchWindow window) {
+        window.getPartService().removePartListener(this);
+    }
+
+    @Override
+    public void windowActivated(IWorkbenchWindow window) {
+        // No action required
+    }
+
+    @Override
+    public void windowDeactivated(IWorkbenchWindow window) {
+        // No action required
+    }
+
+    @Override
+    public void partOpened(IWorkbenchPartReference partRef) {
+        // Editors are pre-warmed when activated, which follows opening for any editor brought to the front
+    }
+
+    @Override
+    public void partActivated(IWorkbenchPartReference partRef) {
+        if (partRef instanceof IEditorReference) {
+            IEditorPart editor = ((IEditorReference) partRef).getEditor(false);
+
+            if (editor != null) {
+                prewarm(partRef, editor);
+            }
+        }
+    }
+
+    @Override
+    public void partClosed(IWorkbenchPartReference partRef) {
+        PrewarmJob job = jobs.remove(partRef);
+
+        if (job != null) {
+            job.cancel();
+        }
+    }
+
+    /**
+     * Installs or removes window and part listeners to match the current preference. Must be called from the UI thread
+     *
+     * @param workbench
+     *            The running workbench
+     */
+    private void updateListeners(IWorkbench workbench) {
+        boolean enabled = isEnabled();
+
+        if (enabled != listening && !workbench.isClosing()) {
+            if (enabled) {
+                workbench.addWindowListener(this);
+
+                for (IWorkbenchWindow window : workbench.getWorkbenchWindows()) {
+                    windowOpened(window);
+                }
+            } else {
+                workbench.removeWindowListener(this);
+
+                for (IWorkbenchWindow window : workbench.getWorkbenchWindows()) {
+                    windowClosed(window);
+                }
+
+                jobs.values().forEach(Job::cancel);
+                jobs.clear();
+            }
+
+            listening = enabled;
+        }
+    }
+
+    private void prewarm(IWorkbenchPartReference partRef, IEditorPart editor) {
+        if (isEnabled()) {
+            IJavaElement element = JavaUI.getEditorInputJavaElement(editor.getEditorInput());
+            PrewarmJob pending = jobs.get(partRef);
+
+            // Re-activating an editor whose analysis has not yet completed leaves the existing job to finish
+            if (element instanceof ICompilationUnit && !(pending != null && pending.isPending(element))) {
+                PrewarmJob job = new PrewarmJob((ICompilationUnit) element);
+
+                job.addJobChangeListener(new JobChangeAdapter() {
+
+                    @Override
+                    public void done(IJobChangeEvent event) {
+                        // Completed jobs need no cancelling, and would otherwise be retained until the editor closes
+                        jobs.remove(partRef, event.getJob());
+                    }
+
+                });
+
+                // Track jobs against their editor, so they may be cancelled if it closes before they complete
+                PrewarmJob previous = jobs.put(partRef, job);
+
+                if (previous != null) {
+                    previous.cancel();
+                }
+
+                job.schedule();
+            }
+        }
+    }
+
+    private static boolean isEnabled() {
+        return PreferenceConstants.getBoolean(PreferenceConstants.PREWARM_ON_EDITOR_ACTIVATION, false);
+    }
+
+    /**
+     * Low-priority background job which reads the bean model of every type within a compilation unit into the
+     * plug-in's cache
+     *
+     * @author romeara
+     * @since 0.2.0
+     */
+    private static final class PrewarmJob extends Job {
+
+        private final ICompilationUnit unit;
+
+        public PrewarmJob(ICompilationUnit unit) {
+            super("Analyzing bean fields of " + unit.getElementName());
+            this.unit = Objects.requireNonNull(unit);
+
+            setPriority(DECORATE);
+            setSystem(true);
+        }
+
+        /**
+         * @param element
+         *            The Java element of an editor
+         * @return True if this job analyzes the element, and is scheduled or running
+         */
+        public boolean isPending(IJavaElement element) {
+            return unit.equals(element) && getState() != NONE;
+        }
+
+        @Override
+        protected IStatus run(IProgressMonitor monitor) {
+            DynamicTemplatesPlugin plugin = DynamicTemplatesPlugin.getDefault();
+            IStatus result = Status.OK_STATUS;
+
+            try {
+                IType[] types = (plugin != null && unit.exists() ? unit.getAllTypes() : new IType[0]);
+
+                for (int i = 0; i < types.length && result.isOK(); i++) {
+                    if (monitor.isCanceled()) {
+                        result = Status.CANCEL_STATUS;
+                    } else {
+                        plugin.getBeanModelCache().get(types[i], false, plugin.getBeanIntrospector()::introspect);
+                    }
+                }
+            } catch (JavaModelException e) {
+                // Pre-warming is an optimization only - types which cannot be read now will be read on first use
+                if (plugin.getTrace().isEnabled()) {
+                    plugin.getTrace().trace("Unable to pre-warm bean models of " + unit.getElementName() + ": "
+                            + e.getMessage());
+                }
+            }
+
+            return result;
+        }
+
+    }
+
+}